@@ -0,0 +1,173 @@
+package com.openxcell.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.openxcell.writer.iface.ReaderWriterBean;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Synthetic beans shared by benchmarks. Values are derived from index so every
+ * run writes same data.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class BenchmarkData {
+	/* 2018-01-01 00:00:00 UTC */
+	private static final long BASE_TIME = 1514764800000L;
+
+	/**
+	 * Flat columns, one nested object and one filtered collection value, no
+	 * collection is stacked in following rows.
+	 */
+	public static final String ORDER_TEMPLATE = "{\"header\":[\"#\",\"Id\",\"Number\",\"Total\",\"Quantity\",\"Created\",\"Paid\",\"Customer\",\"City\",\"Open Line\"],"
+			+ "\"properties\":[\"count\",\"Order.id\",\"Order.number\",\"Order.total\",\"Order.quantity\",\"Order.created\",\"Order.paid\",\"Order.customer.name\",\"Order.customer.address.city\",\"Order.lines.sku(status=1)\"],"
+			+ "\"summation_headers\":[\"Total\",\"Quantity\"]}";
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * @param count
+	 *            - number of orders
+	 * @param lineCount
+	 *            - number of lines of each order
+	 * @return
+	 */
+	public static List<Order> orders(int count, int lineCount) {
+		List<Order> orders = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			orders.add(order(i, lineCount));
+		}
+		return orders;
+	}
+
+	/**
+	 * @param index
+	 * @param lineCount
+	 * @return
+	 */
+	public static Order order(int index, int lineCount) {
+		Order order = new Order();
+		order.id = index + 1;
+		order.number = "SO-" + (100000 + index);
+		order.created = new Date(BASE_TIME + index * 60000L);
+		order.paid = index % 3 == 0;
+
+		Address address = new Address();
+		address.city = "City " + (index % 50);
+		order.customer = new Customer();
+		order.customer.name = "Customer " + (index % 1000);
+		order.customer.address = address;
+
+		order.lines = new ArrayList<>(lineCount);
+		for (int i = 0; i < lineCount; i++) {
+			OrderLine line = new OrderLine();
+			line.sku = "SKU-" + index + "-" + i;
+			line.quantity = 1 + i % 10;
+			line.price = 9.99 + i;
+			/* only last line is open */
+			line.status = i == lineCount - 1 ? 1 : 2;
+			order.lines.add(line);
+			order.quantity += line.quantity;
+			order.total += line.quantity * line.price;
+		}
+		return order;
+	}
+
+	public static class Order implements ReaderWriterBean {
+		private long id;
+		private String number;
+		private double total;
+		private int quantity;
+		private Date created;
+		private boolean paid;
+		private Customer customer;
+		private List<OrderLine> lines;
+
+		public long getId() {
+			return id;
+		}
+
+		public String getNumber() {
+			return number;
+		}
+
+		public double getTotal() {
+			return total;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public boolean isPaid() {
+			return paid;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public List<OrderLine> getLines() {
+			return lines;
+		}
+	}
+
+	public static class Customer implements ReaderWriterBean {
+		private String name;
+		private Address address;
+
+		public String getName() {
+			return name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+	}
+
+	public static class Address implements ReaderWriterBean {
+		private String city;
+
+		public String getCity() {
+			return city;
+		}
+	}
+
+	public static class OrderLine implements ReaderWriterBean {
+		private String sku;
+		private int quantity;
+		private double price;
+		private int status;
+
+		public String getSku() {
+			return sku;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+	}
+
+	/**
+	 * @return template of {@link #ORDER_TEMPLATE}
+	 */
+	public static SpreadSheetTemplate orderTemplate() {
+		return new SpreadSheetTemplate(ORDER_TEMPLATE);
+	}
+}
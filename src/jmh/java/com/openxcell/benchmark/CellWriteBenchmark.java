@@ -0,0 +1,157 @@
+package com.openxcell.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.spreadsheet.SpreadSheetManager;
+import com.openxcell.writer.spreadsheet.SpreadSheetStyleRegistry;
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil;
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
+
+/**
+ * Write of single cell by type of value. Same cell of same row is written again
+ * and again, so only cost of cell is measured and not growth of sheet.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CellWriteBenchmark {
+	@Param({ "TEXT", "INTEGER", "FLOAT", "DATE" })
+	public ExcelCellType valueType;
+
+	private Object value;
+	private long longValue;
+	private double doubleValue;
+	private long epochDay;
+
+	/* POI */
+	private SXSSFWorkbook workbook;
+	private Row row;
+	private SpreadSheetStyleRegistry styleRegistry;
+
+	/* SpreadSheetManager with direct engine */
+	private SpreadSheetManager spreadSheetManager;
+	private File directFile;
+
+	@Setup
+	public void setupValue() {
+		switch (valueType) {
+		case INTEGER:
+			longValue = 1234567L;
+			value = longValue;
+			break;
+		case FLOAT:
+			doubleValue = 1234.5678;
+			value = doubleValue;
+			break;
+		case DATE:
+			epochDay = LocalDate.of(2018, 1, 1).toEpochDay();
+			value = new Date(1514764800000L);
+			break;
+		default:
+			value = "Lorem ipsum dolor sit amet";
+			break;
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setupWorkbook() throws IOException {
+		workbook = new SXSSFWorkbook(100);
+		row = workbook.createSheet().createRow(0);
+		styleRegistry = new SpreadSheetStyleRegistry(workbook);
+
+		directFile = File.createTempFile("cell-write", ".xlsx");
+		spreadSheetManager = new SpreadSheetManager();
+		spreadSheetManager.buildWorkbook(BenchmarkData.orderTemplate());
+		spreadSheetManager.enableDirectEngine(new FileHolder(directFile.getPath()));
+		spreadSheetManager.addHeader("Value");
+		spreadSheetManager.newRow();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownWorkbook() throws IOException {
+		workbook.dispose();
+		workbook.close();
+		spreadSheetManager.closeWorkbook(new FileHolder(directFile.getPath()));
+		directFile.delete();
+	}
+
+	/**
+	 * Boxed value on POI row, type detected from value.
+	 */
+	@Benchmark
+	public void writeCell() {
+		SpreadSheetUtil.writeCell(workbook, row, 0, value, styleRegistry, false, null);
+	}
+
+	/**
+	 * Primitive value on POI row.
+	 */
+	@Benchmark
+	public void writePrimitiveCell() {
+		switch (valueType) {
+		case INTEGER:
+			SpreadSheetUtil.writeCell(row, 0, longValue, styleRegistry.getCellStyle(ExcelCellType.INTEGER, false));
+			break;
+		case FLOAT:
+			SpreadSheetUtil.writeCell(row, 0, doubleValue, styleRegistry.getCellStyle(ExcelCellType.FLOAT, false));
+			break;
+		case DATE:
+			SpreadSheetUtil.writeCell(row, 0, SpreadSheetUtil.toExcelSerialDay(epochDay),
+					styleRegistry.getCellStyle(ExcelCellType.DATE, false));
+			break;
+		default:
+			SpreadSheetUtil.writeCell(workbook, row, 0, value, styleRegistry, false, null);
+			break;
+		}
+	}
+
+	/**
+	 * Boxed value on direct engine.
+	 */
+	@Benchmark
+	public void addValueCell() {
+		spreadSheetManager.addValueCell(0, value);
+	}
+
+	/**
+	 * Primitive value on direct engine, expected to allocate nothing.
+	 */
+	@Benchmark
+	public void addPrimitiveValueCell() {
+		switch (valueType) {
+		case INTEGER:
+			spreadSheetManager.addValueCell(0, longValue);
+			break;
+		case FLOAT:
+			spreadSheetManager.addValueCell(0, doubleValue);
+			break;
+		case DATE:
+			spreadSheetManager.addEpochDayCell(0, epochDay);
+			break;
+		default:
+			spreadSheetManager.addValueCell(0, value);
+			break;
+		}
+	}
+}
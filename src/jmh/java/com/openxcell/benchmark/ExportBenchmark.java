@@ -0,0 +1,71 @@
+package com.openxcell.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+import com.openxcell.writer.spreadsheet.SpreadSheetWriter;
+
+/**
+ * End to end {@link SpreadSheetWriter#write(FileHolder, List)} of synthetic
+ * orders, one export per invocation.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class ExportBenchmark {
+	@Param({ "10000", "100000", "1000000" })
+	public int rowCount;
+
+	@Param({ "poi", "direct" })
+	public String engine;
+
+	private SpreadSheetTemplate template;
+	private List<BenchmarkData.Order> orders;
+	private File file;
+
+	@Setup
+	public void setup() throws IOException {
+		template = BenchmarkData.orderTemplate();
+		orders = BenchmarkData.orders(rowCount, 3);
+		file = File.createTempFile("export", ".xlsx");
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() {
+		file.delete();
+	}
+
+	@Benchmark
+	public long write() {
+		SpreadSheetWriter<BenchmarkData.Order> writer = new SpreadSheetWriter<>(template);
+		if ("direct".equals(engine)) {
+			writer.useDirectEngine();
+		}
+		writer.write(new FileHolder(file.getPath()), orders);
+		return file.length();
+	}
+}
@@ -0,0 +1,69 @@
+package com.openxcell.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.spreadsheet.SpreadSheetManager;
+
+/**
+ * {@link SpreadSheetManager#newRow()} with one cell per row. Small sheet
+ * threshold measures cost of sheet rollover (summation row, new sheet, header)
+ * spread over rows.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NewRowBenchmark {
+	@Param({ "1000", "65000" })
+	public int sheetChangeThreshold;
+
+	@Param({ "poi", "direct" })
+	public String engine;
+
+	private SpreadSheetManager spreadSheetManager;
+	private File file;
+	private long rowNumber;
+
+	@Setup(Level.Iteration)
+	public void setup() throws IOException {
+		file = File.createTempFile("new-row", ".xlsx");
+		spreadSheetManager = new SpreadSheetManager();
+		spreadSheetManager.enableStream(true, 100);
+		spreadSheetManager.buildWorkbook(BenchmarkData.orderTemplate());
+		spreadSheetManager.setSheetChangeThreshold(sheetChangeThreshold);
+		if ("direct".equals(engine)) {
+			spreadSheetManager.enableDirectEngine(new FileHolder(file.getPath()));
+		}
+		spreadSheetManager.addHeader("Id");
+		spreadSheetManager.addHeader("Total");
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() throws IOException {
+		spreadSheetManager.closeWorkbook(new FileHolder(file.getPath()));
+		file.delete();
+	}
+
+	@Benchmark
+	public int newRow() {
+		int row = spreadSheetManager.newRow();
+		spreadSheetManager.addValueCell(0, ++rowNumber);
+		return row;
+	}
+}
@@ -0,0 +1,70 @@
+package com.openxcell.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.openxcell.util.PropertyPath;
+import com.openxcell.writer.spreadsheet.SpreadSheetBeanUtil;
+
+/**
+ * Evaluation of single property path on bean by path depth, collection size
+ * and filter. Row cache of bean properties is reset before each evaluation so
+ * every call reads bean like first column of row does.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyEvaluationBenchmark {
+	@Param({ "Order.number", "Order.customer.name", "Order.customer.address.city", "Order.lines.sku",
+			"Order.lines[2].sku", "Order.lines.price(status=1)", "Order.lines.price(status in(1, 2);quantity>=5)" })
+	public String path;
+
+	@Param({ "1", "10", "100" })
+	public int lineCount;
+
+	private SpreadSheetBeanUtil beanUtil;
+	private PropertyPath propertyPath;
+	private BenchmarkData.Order order;
+
+	@Setup
+	public void setup() {
+		beanUtil = new SpreadSheetBeanUtil();
+		beanUtil.usingTemplate(BenchmarkData.orderTemplate());
+		propertyPath = PropertyPath.parse(path);
+		order = BenchmarkData.order(1, lineCount);
+	}
+
+	/**
+	 * Path is parsed on every call, same as callers of public API.
+	 */
+	@Benchmark
+	public Object evaluateColumnValueRecursive() throws Exception {
+		beanUtil.nextRow();
+		return beanUtil.evaluateColumnValueRecursive(path, order);
+	}
+
+	/**
+	 * Path parsed once, same as template columns.
+	 */
+	@Benchmark
+	public Object evaluateColumnValue() throws Exception {
+		beanUtil.nextRow();
+		return beanUtil.evaluateColumnValue(propertyPath, order);
+	}
+
+	@Benchmark
+	public PropertyPath parse() {
+		return PropertyPath.parse(path);
+	}
+}
@@ -0,0 +1,220 @@
+package com.openxcell.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import com.openxcell.annotation.IgnoreField;
+import com.openxcell.util.BeanAccessor;
+import com.openxcell.writer.iface.ReaderWriterBean;
+
+/**
+ * Generate reflection free {@link BeanAccessor} for every public
+ * {@link ReaderWriterBean} class at compile time. For class `Item` it generates
+ * `Item_BeanAccessor` in same package which is picked up automatically by
+ * {@link BeanAccessor#forClass(Class)}.<br/>
+ * <br/>
+ * Properties are resolved same as reflection, only public getters are called.
+ * Field without public getter always returns null.<br/>
+ * <br/>
+ * Gradle: <code>annotationProcessor 'reader-writer'</code> (or add jar on
+ * compile classpath for Gradle < 4.6)
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@SupportedAnnotationTypes("*")
+public class ReaderWriterBeanProcessor extends AbstractProcessor {
+
+	private final Set<String> generatedAccessors = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement readerWriterBean = processingEnv.getElementUtils()
+				.getTypeElement(ReaderWriterBean.class.getCanonicalName());
+		if (readerWriterBean == null) {
+			return false;
+		}
+
+		for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(typeElement, readerWriterBean);
+		}
+		return false;
+	}
+
+	/**
+	 * @param typeElement
+	 * @param readerWriterBean
+	 */
+	private void processType(TypeElement typeElement, TypeElement readerWriterBean) {
+		if (!typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+			return;
+		}
+
+		if (typeElement.getKind() == ElementKind.CLASS && isReaderWriterBean(typeElement, readerWriterBean)) {
+			try {
+				generateAccessor(typeElement, readerWriterBean);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"Unable to generate accessor: " + e.getMessage(), typeElement);
+			}
+		}
+
+		/* public nested classes */
+		for (TypeElement nestedElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+			processType(nestedElement, readerWriterBean);
+		}
+	}
+
+	/**
+	 * @param typeElement
+	 * @param readerWriterBean
+	 * @throws IOException
+	 */
+	private void generateAccessor(TypeElement typeElement, TypeElement readerWriterBean) throws IOException {
+		String packageName = getPackageName(typeElement);
+		String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+		String accessorName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+				+ BeanAccessor.GENERATED_SUFFIX;
+		String qualifiedAccessorName = packageName.isEmpty() ? accessorName : packageName + "." + accessorName;
+
+		if (!generatedAccessors.add(qualifiedAccessorName)) {
+			return;
+		}
+
+		Map<String, String> mapGetters = getProperties(typeElement, readerWriterBean);
+		String beanName = typeElement.getQualifiedName().toString();
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n * Generated by ").append(ReaderWriterBeanProcessor.class.getName()).append(" for {@link ")
+				.append(beanName).append("}\n */\n");
+		source.append("@SuppressWarnings(\"rawtypes\")\n");
+		source.append("public class ").append(accessorName).append(" extends ")
+				.append(BeanAccessor.class.getName()).append(" {\n\n");
+		source.append("\tpublic ").append(accessorName).append("() {\n");
+		for (Map.Entry<String, String> entry : mapGetters.entrySet()) {
+			source.append("\t\tregister(\"").append(entry.getKey()).append("\", ");
+			if (entry.getValue() == null) {
+				source.append("NULL_ACCESSOR);\n");
+			} else {
+				source.append("bean -> {\n");
+				source.append("\t\t\ttry {\n");
+				source.append("\t\t\t\treturn ((").append(beanName).append(") bean).").append(entry.getValue())
+						.append("();\n");
+				source.append("\t\t\t} catch (Throwable e) {\n");
+				source.append("\t\t\t\treturn failed(e);\n");
+				source.append("\t\t\t}\n");
+				source.append("\t\t});\n");
+			}
+		}
+		source.append("\t}\n}\n");
+
+		JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedAccessorName, typeElement);
+		try (Writer writer = sourceFile.openWriter()) {
+			writer.write(source.toString());
+		}
+	}
+
+	/**
+	 * Get Map<"property", "getter"> of given class, getter is null when there is
+	 * no public getter for property.
+	 *
+	 * @param typeElement
+	 * @param readerWriterBean
+	 * @return
+	 */
+	private Map<String, String> getProperties(TypeElement typeElement, TypeElement readerWriterBean) {
+		List<VariableElement> fields = new ArrayList<>(ElementFilter.fieldsIn(typeElement.getEnclosedElements()));
+		List<ExecutableElement> methods = new ArrayList<>(
+				ElementFilter.methodsIn(typeElement.getEnclosedElements()));
+
+		/* access super class properties(variables) */
+		TypeMirror superClass = typeElement.getSuperclass();
+		if (superClass.getKind() == TypeKind.DECLARED) {
+			TypeElement superElement = (TypeElement) ((DeclaredType) superClass).asElement();
+			if (isReaderWriterBean(superElement, readerWriterBean)) {
+				fields.addAll(ElementFilter.fieldsIn(superElement.getEnclosedElements()));
+				methods.addAll(ElementFilter.methodsIn(superElement.getEnclosedElements()));
+			}
+		}
+
+		Map<String, String> mapGetters = new LinkedHashMap<>();
+		for (VariableElement field : fields) {
+			String columnName = field.getSimpleName().toString();
+			if (field.getAnnotation(IgnoreField.class) == null && !columnName.startsWith("$")
+					&& !mapGetters.containsKey(columnName)) {
+				mapGetters.put(columnName, getGetter(columnName, methods));
+			}
+		}
+		return mapGetters;
+	}
+
+	/**
+	 * @param columnName
+	 * @param methods
+	 * @return name of public getter or null
+	 */
+	private String getGetter(String columnName, List<ExecutableElement> methods) {
+		String getMethodName = "get" + columnName;
+		String isMethodName = "is" + columnName;
+		for (ExecutableElement method : methods) {
+			String methodName = method.getSimpleName().toString();
+			if (method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.STATIC)
+					&& (getMethodName.equalsIgnoreCase(methodName) || isMethodName.equalsIgnoreCase(methodName))) {
+				return method.getModifiers().contains(Modifier.PUBLIC) ? methodName : null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param typeElement
+	 * @param readerWriterBean
+	 * @return
+	 */
+	private boolean isReaderWriterBean(TypeElement typeElement, TypeElement readerWriterBean) {
+		if (typeElement.equals(readerWriterBean)) {
+			return false;
+		}
+		return processingEnv.getTypeUtils().isAssignable(
+				processingEnv.getTypeUtils().erasure(typeElement.asType()),
+				processingEnv.getTypeUtils().erasure(readerWriterBean.asType()));
+	}
+
+	/**
+	 * @param typeElement
+	 * @return
+	 */
+	private String getPackageName(TypeElement typeElement) {
+		return processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+	}
+}
@@ -0,0 +1,445 @@
+package com.openxcell.reader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.openxcell.util.BeanAccessor;
+import com.openxcell.util.BeanMutator;
+import com.openxcell.util.PropertyAccessor;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Bind columns of file back to properties of object using `header` and
+ * `properties` of {@link SpreadSheetTemplate}, i.e: header `SKU` with property
+ * `Item.sku` is set using `setSku` of bean. Nested properties
+ * (`Item.warehouse.name`) create intermediate objects using no-arg constructor.
+ * When record type is {@link Map} value is put against property path
+ * (`warehouse.name`) without conversion.<br/>
+ * <br/>
+ * Properties which can't be written back are ignored: `count`, expressions
+ * (`[index]`, `(condition)`), paths through collection and collection, map or
+ * array properties. Values of `replace` are reversed (`Simple` => `0`) before
+ * conversion.<br/>
+ * <br/>
+ * Values are converted to type of setter: text, number (read from spreadsheet
+ * as {@link Double}) or boolean. Dates ({@link Date}, {@link java.sql.Date},
+ * {@link Timestamp}, {@link Time}) are read from Excel serial number or text
+ * `yyyy-MM-dd HH:mm:ss` / `yyyy-MM-dd`. Number with fraction or out of range
+ * of integer property (`2.5` for `int`) is logged as invalid value and
+ * property is left unset instead of truncated, same as value setter
+ * rejects.<br/>
+ * <br/>
+ * Once header is bound {@link #set(Object, int, Object)} is safe to call from
+ * multiple threads.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change exact conversion of number to integer types
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change java.sql date types, value which can't be set is skipped
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class TemplateBinder<T> {
+	private static Logger logger = Logger.getLogger(TemplateBinder.class.getName());
+
+	private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	private static final long MILLIS_PER_DAY = 86400000L;
+	/* days between 1899-12-30 and 1970-01-01 */
+	private static final double EPOCH_SERIAL = 25569;
+
+	private final Class<T> type;
+	private final boolean mapRecord;
+	private final BeanMutator beanMutator;
+
+	/* header (lower case) => binding */
+	private final Map<String, Binding> mapHeaderBindings = new HashMap<>();
+	/* column => binding of current header, null when column is not bound */
+	private volatile Binding[] columnBindings = new Binding[0];
+
+	public TemplateBinder(SpreadSheetTemplate spreadSheetTemplate, Class<T> type) {
+		Objects.requireNonNull(spreadSheetTemplate, "template can not be null");
+		this.type = Objects.requireNonNull(type, "type can not be null");
+		this.mapRecord = Map.class.isAssignableFrom(type);
+		this.beanMutator = BeanMutator.forClass(type);
+		if (!mapRecord && !beanMutator.isInstantiable()) {
+			throw new RuntimeException(type.getName() + " doesn't have public no-arg constructor");
+		}
+
+		JSONArray header = spreadSheetTemplate.getHeader();
+		JSONArray properties = spreadSheetTemplate.getProperties();
+		if (Objects.nonNull(header) && Objects.nonNull(properties)) {
+			for (int i = 0; i < header.length() && i < properties.length(); i++) {
+				String headerName = header.optString(i).trim();
+				String property = properties.optString(i).trim();
+				Binding binding = binding(property, spreadSheetTemplate.getReplace());
+				if (binding != null) {
+					mapHeaderBindings.put(headerName.toLowerCase(), binding);
+				} else {
+					logger.fine("Column `" + headerName + "` (" + property + ") can't be read back");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Bind columns of file using header row of file, column order of file may be
+	 * different from template.
+	 *
+	 * @param headers
+	 *            - header row, value per column (nullable)
+	 * @return number of columns bound to property
+	 */
+	public int bindHeader(List<String> headers) {
+		Binding[] bindings = new Binding[headers.size()];
+		int boundCount = 0;
+		for (int i = 0; i < headers.size(); i++) {
+			String headerName = headers.get(i);
+			if (Objects.nonNull(headerName)) {
+				bindings[i] = mapHeaderBindings.get(headerName.trim().toLowerCase());
+				if (bindings[i] != null) {
+					boundCount++;
+				}
+			}
+		}
+		columnBindings = bindings;
+		return boundCount;
+	}
+
+	/**
+	 * @param column
+	 * @return true when column of file is bound to property
+	 */
+	public boolean isBound(int column) {
+		Binding[] bindings = columnBindings;
+		return column < bindings.length && bindings[column] != null;
+	}
+
+	/**
+	 * @return new empty record
+	 */
+	@SuppressWarnings("unchecked")
+	public T newRecord() {
+		if (mapRecord && !beanMutator.isInstantiable()) {
+			return (T) new LinkedHashMap<String, Object>();
+		}
+		return (T) beanMutator.newInstance();
+	}
+
+	/**
+	 * Set value of column in record.
+	 *
+	 * @param record
+	 * @param column
+	 * @param value
+	 *            - {@link String}, {@link Double} or {@link Boolean}
+	 * @return true when non-empty value is set
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean set(T record, int column, Object value) {
+		Binding[] bindings = columnBindings;
+		if (column >= bindings.length || bindings[column] == null || value == null
+				|| (value instanceof String && ((String) value).isEmpty())) {
+			return false;
+		}
+		Binding binding = bindings[column];
+		if (Objects.nonNull(binding.mapReverseReplace) && binding.mapReverseReplace.containsKey(String.valueOf(value))) {
+			value = binding.mapReverseReplace.get(String.valueOf(value));
+		}
+
+		if (mapRecord) {
+			((Map<String, Object>) record).put(binding.path, value);
+			return true;
+		}
+
+		int last = binding.properties.length - 1;
+		Object converted;
+		try {
+			converted = convert(value, binding.types[last]);
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Invalid value `" + value + "` of " + binding.path, e);
+			return false;
+		}
+		if (converted == null) {
+			return false;
+		}
+
+		try {
+			Object target = record;
+			for (int i = 0; i < last; i++) {
+				Object child = binding.accessors[i].get(target);
+				if (child == null) {
+					child = BeanMutator.forClass(binding.types[i]).newInstance();
+					binding.mutators[i].set(target, binding.properties[i], child);
+				}
+				target = child;
+			}
+			binding.mutators[last].set(target, binding.properties[last], converted);
+		} catch (RuntimeException e) {
+			logger.log(Level.WARNING, "Can't set value `" + value + "` of " + binding.path, e);
+			return false;
+		}
+		return true;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Resolve template property to setter chain.
+	 *
+	 * @param property
+	 * @param replace
+	 * @return binding or null when property can't be written back
+	 */
+	private Binding binding(String property, JSONObject replace) {
+		if (property.isEmpty() || "count".equalsIgnoreCase(property) || property.indexOf('[') >= 0
+				|| property.indexOf('(') >= 0) {
+			return null;
+		}
+
+		/* Item.warehouse.name => warehouse.name */
+		int indexOfPeriod = property.indexOf('.');
+		String path = indexOfPeriod > 0 ? property.substring(indexOfPeriod + 1) : property;
+		Binding binding = new Binding();
+		binding.path = path;
+		binding.properties = path.split("\\.");
+		binding.mapReverseReplace = reverseReplace(replace, property);
+
+		if (mapRecord) {
+			return binding;
+		}
+
+		int length = binding.properties.length;
+		binding.types = new Class<?>[length];
+		binding.mutators = new BeanMutator[length];
+		binding.accessors = new PropertyAccessor[length];
+		Class<?> current = type;
+		for (int i = 0; i < length; i++) {
+			BeanMutator mutator = BeanMutator.forClass(current);
+			Class<?> propertyType = mutator.getPropertyType(binding.properties[i]);
+			if (propertyType == null) {
+				return null;
+			}
+			if (i < length - 1) {
+				PropertyAccessor accessor = BeanAccessor.forClass(current).getPropertyAccessor(binding.properties[i]);
+				if (accessor == null || Collection.class.isAssignableFrom(propertyType)
+						|| Map.class.isAssignableFrom(propertyType) || propertyType.isArray()
+						|| !BeanMutator.forClass(propertyType).isInstantiable()) {
+					return null;
+				}
+				binding.accessors[i] = accessor;
+			}
+			if (i == length - 1 && !isValueType(propertyType)) {
+				return null;
+			}
+			binding.types[i] = propertyType;
+			binding.mutators[i] = mutator;
+			current = propertyType;
+		}
+		return binding;
+	}
+
+	/**
+	 * "replace": { "Item.type": { "0": "Simple", "1": "Configurable" } }
+	 *
+	 * @param replace
+	 * @param property
+	 * @return replaced value => original value, null when property has no replace
+	 */
+	private static Map<String, String> reverseReplace(JSONObject replace, String property) {
+		if (Objects.isNull(replace) || Objects.isNull(replace.optJSONObject(property))) {
+			return null;
+		}
+		JSONObject replaceProperty = replace.optJSONObject(property);
+		Map<String, String> mapReverseReplace = new HashMap<>();
+		Iterator<String> keys = replaceProperty.keys();
+		while (keys.hasNext()) {
+			String key = keys.next();
+			mapReverseReplace.put(replaceProperty.optString(key), key);
+		}
+		return mapReverseReplace;
+	}
+
+	/**
+	 * @param value
+	 *            - {@link String}, {@link Number} or {@link Boolean}
+	 * @param type
+	 * @return converted value or null when value can't be represented
+	 * @throws RuntimeException
+	 *             when value doesn't fit type, i.e: fraction or out of range
+	 *             number for integer type
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Object convert(Object value, Class<?> type) {
+		if (type.isInstance(value) && !type.isPrimitive()) {
+			return value;
+		}
+		if (type == String.class) {
+			if (value instanceof Double && isIntegral((Double) value)) {
+				return String.valueOf(((Double) value).longValue());
+			}
+			return value.toString();
+		}
+		if (type == int.class || type == Integer.class) {
+			return value instanceof Number ? exact((Number) value).intValueExact() : Integer.valueOf(text(value));
+		}
+		if (type == long.class || type == Long.class) {
+			return value instanceof Number ? exact((Number) value).longValueExact() : Long.valueOf(text(value));
+		}
+		if (type == double.class || type == Double.class) {
+			return value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(text(value));
+		}
+		if (type == float.class || type == Float.class) {
+			return value instanceof Number ? ((Number) value).floatValue() : Float.valueOf(text(value));
+		}
+		if (type == short.class || type == Short.class) {
+			return value instanceof Number ? exact((Number) value).shortValueExact() : Short.valueOf(text(value));
+		}
+		if (type == byte.class || type == Byte.class) {
+			return value instanceof Number ? exact((Number) value).byteValueExact() : Byte.valueOf(text(value));
+		}
+		if (type == boolean.class || type == Boolean.class) {
+			if (value instanceof Boolean) {
+				return value;
+			}
+			if (value instanceof Number) {
+				return ((Number) value).doubleValue() != 0;
+			}
+			String text = text(value);
+			return "true".equalsIgnoreCase(text) || "yes".equalsIgnoreCase(text) || "1".equals(text);
+		}
+		if (type == BigDecimal.class) {
+			return value instanceof Number ? BigDecimal.valueOf(((Number) value).doubleValue())
+					: new BigDecimal(text(value));
+		}
+		if (type == BigInteger.class) {
+			return value instanceof Number ? exact((Number) value).toBigIntegerExact() : new BigInteger(text(value));
+		}
+		if (type == char.class || type == Character.class) {
+			String text = value.toString();
+			return text.isEmpty() ? null : text.charAt(0);
+		}
+		if (Date.class.isAssignableFrom(type)) {
+			Date date = value instanceof Number ? fromSerialDate(((Number) value).doubleValue())
+					: parseDate(text(value));
+			if (type == java.sql.Date.class) {
+				return new java.sql.Date(date.getTime());
+			}
+			if (type == Timestamp.class) {
+				return new Timestamp(date.getTime());
+			}
+			if (type == Time.class) {
+				return new Time(date.getTime());
+			}
+			return date;
+		}
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, text(value));
+		}
+		throw new RuntimeException("Unsupported type " + type.getName());
+	}
+
+	/**
+	 * @param type
+	 *            - type of last property
+	 * @return false when cell can't be converted to type, i.e: collection or
+	 *         unknown subclass of {@link Date}
+	 */
+	private static boolean isValueType(Class<?> type) {
+		if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray()) {
+			return false;
+		}
+		return !Date.class.isAssignableFrom(type) || type == Date.class || type == java.sql.Date.class
+				|| type == Timestamp.class || type == Time.class;
+	}
+
+	private static String text(Object value) {
+		return value.toString().trim().replace(",", "");
+	}
+
+	/**
+	 * @param value
+	 * @return decimal of number, long is not widened to double
+	 */
+	private static BigDecimal exact(Number value) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return BigDecimal.valueOf(value.longValue());
+		}
+		if (value instanceof BigInteger) {
+			return new BigDecimal((BigInteger) value);
+		}
+		if (value instanceof BigDecimal) {
+			return (BigDecimal) value;
+		}
+		return BigDecimal.valueOf(value.doubleValue());
+	}
+
+	private static boolean isIntegral(double value) {
+		return value == Math.rint(value) && Math.abs(value) < 1e15;
+	}
+
+	/**
+	 * Convert Excel serial date (local time zone) to date.
+	 *
+	 * @param serial
+	 * @return
+	 */
+	private static Date fromSerialDate(double serial) {
+		/* Excel treats 1900 as leap year, serial 60 is 1900-02-29 */
+		if (serial < 61) {
+			serial += 1;
+		}
+		long localMillis = Math.round((serial - EPOCH_SERIAL) * MILLIS_PER_DAY);
+		TimeZone timeZone = TimeZone.getDefault();
+		return new Date(localMillis - timeZone.getOffset(localMillis - timeZone.getRawOffset()));
+	}
+
+	/**
+	 * @param text
+	 *            - yyyy-MM-dd HH:mm:ss or yyyy-MM-dd
+	 * @return
+	 */
+	private static Date parseDate(String text) {
+		try {
+			return Date.from(LocalDateTime.parse(text, DATE_TIME_FORMAT).atZone(ZoneId.systemDefault()).toInstant());
+		} catch (DateTimeParseException e) {
+			return Date.from(LocalDate.parse(text).atStartOfDay(ZoneId.systemDefault()).toInstant());
+		}
+	}
+
+	private static class Binding {
+		/* property path without class, i.e: warehouse.name */
+		private String path;
+		private String[] properties;
+		private Class<?>[] types;
+		private BeanMutator[] mutators;
+		private PropertyAccessor[] accessors;
+		private Map<String, String> mapReverseReplace;
+	}
+}
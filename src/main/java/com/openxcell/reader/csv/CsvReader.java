@@ -0,0 +1,424 @@
+package com.openxcell.reader.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.reader.TemplateBinder;
+import com.openxcell.reader.iface.Reader;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Read CSV/TSV into objects using `header` and `properties` of
+ * {@link SpreadSheetTemplate}, see {@link TemplateBinder}.<br/>
+ * <br/>
+ * File is memory-mapped and split in chunks aligned to records (quoted line
+ * breaks are respected), chunks are parsed in parallel on executor while
+ * records are delivered to consumer in order of file on calling thread. Field
+ * is decoded from mapped bytes only when its column is bound to property, other
+ * columns are skipped without creating {@link String}.<br/>
+ * <br/>
+ * Format is RFC 4180 (same as {@link com.openxcell.writer.csv.CsvWriter}):
+ * UTF-8 with optional byte order mark, first record is header, CRLF or LF line
+ * breaks. Empty records and records without value in bound columns are skipped.
+ * <br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * new CsvReader&lt;&gt;(template, Item.class).read(fileHolder, items -&gt; itemRepository.saveAll(items));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class CsvReader<T> implements Reader<T> {
+	private static Logger logger = Logger.getLogger(CsvReader.class.getName());
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+	private final TemplateBinder<T> templateBinder;
+	private byte delimiter = ',';
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private Executor executor = ForkJoinPool.commonPool();
+	private int parallelism = ForkJoinPool.commonPool().getParallelism();
+
+	public CsvReader(SpreadSheetTemplate spreadSheetTemplate, Class<T> type) {
+		this.templateBinder = new TemplateBinder<>(spreadSheetTemplate, type);
+	}
+
+	/**
+	 * Read records as {@link Map} of property path (`warehouse.name`) => value.
+	 *
+	 * @param spreadSheetTemplate
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static CsvReader<Map<String, Object>> forMap(SpreadSheetTemplate spreadSheetTemplate) {
+		return new CsvReader<>(spreadSheetTemplate, (Class) Map.class);
+	}
+
+	/**
+	 * Tab separated reader.
+	 *
+	 * @param spreadSheetTemplate
+	 * @param type
+	 * @return
+	 */
+	public static <T> CsvReader<T> tsv(SpreadSheetTemplate spreadSheetTemplate, Class<T> type) {
+		return new CsvReader<>(spreadSheetTemplate, type).setDelimiter('\t');
+	}
+
+	/**
+	 * @param delimiter
+	 *            - single byte character, default `,`
+	 * @return
+	 */
+	public CsvReader<T> setDelimiter(char delimiter) {
+		if (delimiter > 0x7F || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+			throw new RuntimeException("Delimiter must be ASCII and can not be quote or line break");
+		}
+		this.delimiter = (byte) delimiter;
+		return this;
+	}
+
+	/**
+	 * @param batchSize
+	 *            - number of records delivered to consumer at a time
+	 * @return
+	 */
+	public CsvReader<T> setBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new RuntimeException("Provide batchSize greater than 0.");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * @param chunkSize
+	 *            - bytes of file parsed by one task, chunk grows when single
+	 *            record is bigger
+	 * @return
+	 */
+	public CsvReader<T> setChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new RuntimeException("Provide chunkSize greater than 0.");
+		}
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * @param executor
+	 *            - executor used to parse chunks, default
+	 *            {@link ForkJoinPool#commonPool()}
+	 * @return
+	 */
+	public CsvReader<T> setExecutor(Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "executor can not be null");
+		this.parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+				: Runtime.getRuntime().availableProcessors();
+		return this;
+	}
+
+	@Override
+	public void read(FileHolder fileHolder, Consumer<List<T>> consumer) {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		Objects.requireNonNull(consumer, "consumer can not be null");
+
+		try (FileChannel fileChannel = FileChannel.open(fileHolder.toPath(), StandardOpenOption.READ)) {
+			long size = fileChannel.size();
+			long position = readHeader(fileChannel, size);
+
+			Deque<CompletableFuture<List<T>>> pendingChunks = new ArrayDeque<>();
+			List<T> batch = new ArrayList<>(batchSize);
+			while (position < size) {
+				ByteBuffer chunk = nextChunk(fileChannel, position, size);
+				position += chunk.limit();
+				pendingChunks.add(CompletableFuture.supplyAsync(() -> new RecordParser().parseChunk(chunk), executor));
+
+				/* keep limited number of chunks mapped and parsed ahead of consumer */
+				if (pendingChunks.size() >= parallelism * 2) {
+					batch = deliver(pendingChunks.poll().join(), batch, consumer);
+				}
+			}
+			while (!pendingChunks.isEmpty()) {
+				batch = deliver(pendingChunks.poll().join(), batch, consumer);
+			}
+			if (!batch.isEmpty()) {
+				consumer.accept(batch);
+			}
+		} catch (CompletionException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+			throw new RuntimeException(e.getCause());
+		} catch (IOException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * @param records
+	 * @param batch
+	 * @param consumer
+	 * @return batch to fill next
+	 */
+	private List<T> deliver(List<T> records, List<T> batch, Consumer<List<T>> consumer) {
+		for (T record : records) {
+			batch.add(record);
+			if (batch.size() >= batchSize) {
+				consumer.accept(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Parse first record and bind columns.
+	 *
+	 * @param fileChannel
+	 * @param size
+	 * @return position of second record
+	 * @throws IOException
+	 */
+	private long readHeader(FileChannel fileChannel, long size) throws IOException {
+		if (size == 0) {
+			return 0;
+		}
+		long start = 0;
+		ByteBuffer bom = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(3, size));
+		if (bom.limit() == 3 && (bom.get(0) & 0xFF) == 0xEF && (bom.get(1) & 0xFF) == 0xBB
+				&& (bom.get(2) & 0xFF) == 0xBF) {
+			start = 3;
+		}
+
+		ByteBuffer chunk = nextChunk(fileChannel, start, size);
+		RecordParser recordParser = new RecordParser();
+		int end = recordParser.parseRecord(chunk, 0);
+		List<String> headers = new ArrayList<>(recordParser.fieldCount);
+		for (int i = 0; i < recordParser.fieldCount; i++) {
+			headers.add(recordParser.decode(chunk, i));
+		}
+		templateBinder.bindHeader(headers);
+		return start + end;
+	}
+
+	/**
+	 * Map next chunk of file which ends at record boundary.
+	 *
+	 * @param fileChannel
+	 * @param position
+	 *            - start of record
+	 * @param size
+	 * @return
+	 * @throws IOException
+	 */
+	private ByteBuffer nextChunk(FileChannel fileChannel, long position, long size) throws IOException {
+		long length = Math.min(chunkSize, size - position);
+		while (true) {
+			ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			if (position + length == size) {
+				return buffer;
+			}
+			int end = lastRecordEnd(buffer);
+			if (end > 0) {
+				buffer.limit(end);
+				return buffer.slice();
+			}
+			/* single record is bigger than chunk */
+			if (length >= Integer.MAX_VALUE) {
+				throw new RuntimeException("Record at position " + position + " is bigger than 2GB");
+			}
+			length = Math.min(Math.min(length * 2, Integer.MAX_VALUE), size - position);
+		}
+	}
+
+	/**
+	 * Scan quotes and line breaks only, same state machine as
+	 * {@link RecordParser}.
+	 *
+	 * @param buffer
+	 *            - starting at record
+	 * @return position after last complete record, 0 when there is none
+	 */
+	private int lastRecordEnd(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		int lastEnd = 0;
+		boolean quoted = false;
+		boolean fieldStart = true;
+		for (int i = 0; i < limit; i++) {
+			byte b = buffer.get(i);
+			if (quoted) {
+				if (b == '"') {
+					if (i + 1 < limit && buffer.get(i + 1) == '"') {
+						i++;
+					} else {
+						quoted = false;
+					}
+				}
+			} else if (b == '"' && fieldStart) {
+				quoted = true;
+				fieldStart = false;
+			} else if (b == delimiter) {
+				fieldStart = true;
+			} else if (b == '\n') {
+				lastEnd = i + 1;
+				fieldStart = true;
+			} else {
+				fieldStart = false;
+			}
+		}
+		return lastEnd;
+	}
+
+	/**
+	 * Parser of records, one instance per chunk (not thread-safe). Only offsets
+	 * of fields are recorded while parsing.
+	 */
+	private class RecordParser {
+		private int fieldCount;
+		private int[] fieldStarts = new int[16];
+		private int[] fieldEnds = new int[16];
+		private boolean[] fieldEscaped = new boolean[16];
+		private byte[] scratch = new byte[256];
+
+		/**
+		 * @param chunk
+		 * @return records of chunk in order
+		 */
+		List<T> parseChunk(ByteBuffer chunk) {
+			List<T> records = new ArrayList<>();
+			int position = 0;
+			while (position < chunk.limit()) {
+				position = parseRecord(chunk, position);
+				if (fieldCount == 1 && fieldStarts[0] == fieldEnds[0]) {
+					/* empty line */
+					continue;
+				}
+
+				T record = templateBinder.newRecord();
+				boolean hasValue = false;
+				for (int i = 0; i < fieldCount; i++) {
+					if (templateBinder.isBound(i) && fieldStarts[i] < fieldEnds[i]) {
+						hasValue |= templateBinder.set(record, i, decode(chunk, i));
+					}
+				}
+				if (hasValue) {
+					records.add(record);
+				}
+			}
+			return records;
+		}
+
+		/**
+		 * Record offsets of fields of record starting at given position.
+		 *
+		 * @param buffer
+		 * @param position
+		 * @return position of next record
+		 */
+		int parseRecord(ByteBuffer buffer, int position) {
+			int limit = buffer.limit();
+			fieldCount = 0;
+			while (true) {
+				int start = position;
+				int end;
+				boolean escaped = false;
+				if (position < limit && buffer.get(position) == '"') {
+					start = ++position;
+					while (position < limit) {
+						byte b = buffer.get(position);
+						if (b == '"') {
+							if (position + 1 < limit && buffer.get(position + 1) == '"') {
+								escaped = true;
+								position += 2;
+								continue;
+							}
+							break;
+						}
+						position++;
+					}
+					end = position;
+					/* skip closing quote and anything till delimiter */
+					while (position < limit && buffer.get(position) != delimiter && buffer.get(position) != '\n') {
+						position++;
+					}
+				} else {
+					while (position < limit && buffer.get(position) != delimiter && buffer.get(position) != '\n') {
+						position++;
+					}
+					end = position;
+					if (end > start && buffer.get(end - 1) == '\r') {
+						end--;
+					}
+				}
+				addField(start, end, escaped);
+
+				if (position < limit && buffer.get(position) == delimiter) {
+					position++;
+				} else {
+					/* line break or end of chunk */
+					return Math.min(position + 1, limit);
+				}
+			}
+		}
+
+		private void addField(int start, int end, boolean escaped) {
+			if (fieldCount == fieldStarts.length) {
+				fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+				fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+				fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+			}
+			fieldStarts[fieldCount] = start;
+			fieldEnds[fieldCount] = end;
+			fieldEscaped[fieldCount] = escaped;
+			fieldCount++;
+		}
+
+		/**
+		 * Decode field of last parsed record, doubled quotes are unescaped.
+		 *
+		 * @param buffer
+		 * @param field
+		 * @return
+		 */
+		String decode(ByteBuffer buffer, int field) {
+			int start = fieldStarts[field];
+			int length = fieldEnds[field] - start;
+			if (scratch.length < length) {
+				scratch = new byte[Math.max(length, scratch.length * 2)];
+			}
+			int count = 0;
+			for (int i = 0; i < length; i++) {
+				byte b = buffer.get(start + i);
+				scratch[count++] = b;
+				if (b == '"' && fieldEscaped[field]) {
+					/* "" => " */
+					i++;
+				}
+			}
+			return new String(scratch, 0, count, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.openxcell.reader.iface;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.openxcell.io.FileHolder;
+
+/**
+ * Counterpart of {@link com.openxcell.writer.iface.Writer}, records of file are
+ * delivered to consumer in batches so complete file is never required in
+ * memory.
+ * 
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public interface Reader<T> {
+	public void read(FileHolder fileHolder, Consumer<List<T>> consumer);
+}
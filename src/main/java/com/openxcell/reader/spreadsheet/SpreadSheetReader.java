@@ -0,0 +1,358 @@
+package com.openxcell.reader.spreadsheet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.reader.TemplateBinder;
+import com.openxcell.reader.iface.Reader;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplatePlan.Summation;
+
+/**
+ * Read XLSX into objects using `header` and `properties` of
+ * {@link SpreadSheetTemplate}, see {@link TemplateBinder}. Sheets are parsed
+ * with SAX over shared strings table so memory stays constant with number of
+ * rows, workbook model is never built.<br/>
+ * <br/>
+ * First row of every sheet is header (same as sheets written by
+ * {@link com.openxcell.writer.spreadsheet.SpreadSheetWriter}). Following rows
+ * are skipped:
+ * <ul>
+ * <li>row without value in bound columns, i.e: following rows of collection
+ * values</li>
+ * <li>summation row, last row of sheet with values only in summation columns
+ * of template (and grand total row after it on last sheet), formula or
+ * value</li>
+ * <li>row with only formula cells when template doesn't have summation</li>
+ * </ul>
+ * Example:
+ *
+ * <pre>
+ * new SpreadSheetReader&lt;&gt;(template, Item.class).read(fileHolder, items -&gt; itemRepository.saveAll(items));
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change summation rows detected by position, summation written as value is skipped
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetReader<T> implements Reader<T> {
+	private static Logger logger = Logger.getLogger(SpreadSheetReader.class.getName());
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private final TemplateBinder<T> templateBinder;
+	/* null when template doesn't have summation */
+	private final Summation summation;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	public SpreadSheetReader(SpreadSheetTemplate spreadSheetTemplate, Class<T> type) {
+		this.templateBinder = new TemplateBinder<>(spreadSheetTemplate, type);
+		this.summation = spreadSheetTemplate.compile().getSummation();
+	}
+
+	/**
+	 * Read rows as {@link Map} of property path (`warehouse.name`) => value.
+	 *
+	 * @param spreadSheetTemplate
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static SpreadSheetReader<Map<String, Object>> forMap(SpreadSheetTemplate spreadSheetTemplate) {
+		return new SpreadSheetReader<>(spreadSheetTemplate, (Class) Map.class);
+	}
+
+	/**
+	 * @param batchSize
+	 *            - number of records delivered to consumer at a time
+	 * @return
+	 */
+	public SpreadSheetReader<T> setBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new RuntimeException("Provide batchSize greater than 0.");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	@Override
+	public void read(FileHolder fileHolder, Consumer<List<T>> consumer) {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		Objects.requireNonNull(consumer, "consumer can not be null");
+
+		try (OPCPackage opcPackage = OPCPackage.open(fileHolder, PackageAccess.READ)) {
+			XSSFReader xssfReader = new XSSFReader(opcPackage);
+			ReadOnlySharedStringsTable sharedStringsTable = new ReadOnlySharedStringsTable(opcPackage);
+			SheetHandler sheetHandler = new SheetHandler(sharedStringsTable, consumer);
+
+			XMLReader xmlReader = SAXHelper.newXMLReader();
+			xmlReader.setContentHandler(sheetHandler);
+
+			Iterator<InputStream> sheets = xssfReader.getSheetsData();
+			while (sheets.hasNext()) {
+				try (InputStream sheet = sheets.next()) {
+					sheetHandler.startSheet();
+					xmlReader.parse(new InputSource(sheet));
+					sheetHandler.endSheet(!sheets.hasNext());
+				}
+			}
+			sheetHandler.flush();
+		} catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * SAX handler of sheet XML, binds each row to record as it's parsed.
+	 */
+	private class SheetHandler extends DefaultHandler {
+		private final ReadOnlySharedStringsTable sharedStringsTable;
+		private final Consumer<List<T>> consumer;
+		private List<T> batch = new ArrayList<>();
+
+		private boolean headerRow;
+		private final List<String> headers = new ArrayList<>();
+		private final List<Object> values = new ArrayList<>();
+		private boolean onlyFormula;
+		private boolean hasFormula;
+
+		/* column index => true when header is summation header */
+		private boolean[] summationColumns = new boolean[0];
+		/* rows with values only in summation columns, summation row when last of sheet */
+		private final List<List<Object>> summationCandidates = new ArrayList<>();
+
+		/* current cell */
+		private int column;
+		private String cellType;
+		private boolean formula;
+		private boolean collectText;
+		private final StringBuilder text = new StringBuilder();
+
+		SheetHandler(ReadOnlySharedStringsTable sharedStringsTable, Consumer<List<T>> consumer) {
+			this.sharedStringsTable = sharedStringsTable;
+			this.consumer = consumer;
+		}
+
+		void startSheet() {
+			headerRow = true;
+			headers.clear();
+			summationCandidates.clear();
+		}
+
+		/**
+		 * Skip summation row (and grand total row of last sheet), rows before it
+		 * are data rows.
+		 * 
+		 * @param lastSheet
+		 */
+		void endSheet(boolean lastSheet) {
+			if (Objects.isNull(summation)) {
+				return;
+			}
+			int summationRows = lastSheet && summation.isGrandTotal() ? 2 : 1;
+			int dataRows = Math.max(0, summationCandidates.size() - summationRows);
+			for (int i = 0; i < dataRows; i++) {
+				bindRow(summationCandidates.get(i));
+			}
+			summationCandidates.clear();
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			switch (localName) {
+			case "row":
+				values.clear();
+				column = -1;
+				onlyFormula = true;
+				hasFormula = false;
+				break;
+			case "c":
+				String reference = attributes.getValue("r");
+				column = Objects.nonNull(reference) ? columnIndex(reference) : column + 1;
+				cellType = attributes.getValue("t");
+				formula = false;
+				text.setLength(0);
+				break;
+			case "v":
+			case "t":
+				collectText = true;
+				break;
+			case "f":
+				formula = true;
+				break;
+			default:
+				break;
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (collectText) {
+				text.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			switch (localName) {
+			case "v":
+			case "t":
+				collectText = false;
+				break;
+			case "c":
+				hasFormula |= formula;
+				Object value = cellValue();
+				if (value != null) {
+					while (values.size() <= column) {
+						values.add(null);
+					}
+					values.set(column, value);
+					onlyFormula &= formula;
+				}
+				break;
+			case "row":
+				endRow();
+				break;
+			default:
+				break;
+			}
+		}
+
+		private Object cellValue() {
+			if (text.length() == 0) {
+				return null;
+			}
+			String value = text.toString();
+			if (Objects.isNull(cellType) || "n".equals(cellType)) {
+				return Double.valueOf(value);
+			}
+			switch (cellType) {
+			case "s":
+				return sharedStringsTable.getEntryAt(Integer.parseInt(value));
+			case "b":
+				return "1".equals(value);
+			case "e":
+				return null;
+			default:
+				/* inlineStr, str (formula string) */
+				return value;
+			}
+		}
+
+		private void endRow() {
+			if (headerRow) {
+				headerRow = false;
+				for (Object value : values) {
+					headers.add(Objects.nonNull(value) ? value.toString() : null);
+				}
+				templateBinder.bindHeader(headers);
+				summationColumns = new boolean[headers.size()];
+				for (int i = 0; i < headers.size() && Objects.nonNull(summation); i++) {
+					summationColumns[i] = Objects.nonNull(headers.get(i))
+							&& summation.getHeaders().contains(headers.get(i));
+				}
+				return;
+			}
+			if (values.isEmpty()) {
+				/* summation formula without cached value */
+				if (Objects.nonNull(summation) && hasFormula) {
+					summationCandidates.add(new ArrayList<>());
+				}
+				return;
+			}
+			if (Objects.isNull(summation)) {
+				if (!onlyFormula) {
+					bindRow(values);
+				}
+				return;
+			}
+
+			/* summation row is known only when sheet ends */
+			if (isSummationCandidate()) {
+				summationCandidates.add(new ArrayList<>(values));
+				return;
+			}
+			for (List<Object> candidate : summationCandidates) {
+				bindRow(candidate);
+			}
+			summationCandidates.clear();
+			bindRow(values);
+		}
+
+		/**
+		 * @return true when row has values only in summation columns
+		 */
+		private boolean isSummationCandidate() {
+			for (int i = 0; i < values.size(); i++) {
+				if (Objects.nonNull(values.get(i)) && (i >= summationColumns.length || !summationColumns[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void bindRow(List<Object> rowValues) {
+			T record = templateBinder.newRecord();
+			boolean hasValue = false;
+			for (int i = 0; i < rowValues.size(); i++) {
+				hasValue |= templateBinder.set(record, i, rowValues.get(i));
+			}
+			if (hasValue) {
+				batch.add(record);
+				if (batch.size() >= batchSize) {
+					flush();
+				}
+			}
+		}
+
+		void flush() {
+			if (!batch.isEmpty()) {
+				consumer.accept(batch);
+				batch = new ArrayList<>();
+			}
+		}
+
+		/**
+		 * @param reference
+		 *            - i.e: AB12
+		 * @return 0 based column index
+		 */
+		private int columnIndex(String reference) {
+			int index = 0;
+			for (int i = 0; i < reference.length(); i++) {
+				char c = reference.charAt(i);
+				if (c < 'A' || c > 'Z') {
+					break;
+				}
+				index = index * 26 + (c - 'A' + 1);
+			}
+			return index - 1;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package com.openxcell.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.openxcell.annotation.IgnoreField;
+import com.openxcell.writer.iface.ReaderWriterBean;
+
+/**
+ * Accessor plan of bean class. Fields and getter methods are resolved only once
+ * per class and kept in {@link ClassValue} so reading property of bean is
+ * direct {@link MethodHandle} call instead of scanning
+ * {@link Class#getDeclaredFields()} and {@link Class#getDeclaredMethods()} for
+ * every object.<br/>
+ * <br/>
+ * Property resolution is same as it was in {@link BeanPropertyValueLoader}:
+ * <ul>
+ * <li>declared fields of class and its super class when super class is
+ * {@link ReaderWriterBean}</li>
+ * <li>field annotated with {@link IgnoreField} or starting with `$` is
+ * skipped</li>
+ * <li>getter is `get` or `is` + field name (case insensitive), field without
+ * getter always returns null</li>
+ * </ul>
+ * When class `Item` has accessor generated at build time by
+ * {@link com.openxcell.annotation.processor.ReaderWriterBeanProcessor}
+ * (`Item_BeanAccessor`) it is used instead of reflection.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class BeanAccessor {
+	private static Logger logger = Logger.getLogger(BeanAccessor.class.getName());
+
+	/* Suffix of accessor class generated by annotation processor */
+	public static final String GENERATED_SUFFIX = "_BeanAccessor";
+
+	protected static final PropertyAccessor NULL_ACCESSOR = bean -> null;
+
+	private static final ClassValue<BeanAccessor> accessors = new ClassValue<BeanAccessor>() {
+		@Override
+		protected BeanAccessor computeValue(Class<?> type) {
+			BeanAccessor beanAccessor = generated(type);
+			return beanAccessor != null ? beanAccessor : reflective(type);
+		}
+	};
+
+	/* property => accessor, in order of declaration */
+	private final Map<String, PropertyAccessor> mapAccessors = new LinkedHashMap<>();
+
+	protected BeanAccessor() {
+	}
+
+	/**
+	 * Get accessor plan of given class. Plan is built on first call and reused
+	 * afterwards.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static BeanAccessor forClass(Class<?> type) {
+		return accessors.get(type);
+	}
+
+	/**
+	 * @param property
+	 * @param accessor
+	 */
+	protected void register(String property, PropertyAccessor accessor) {
+		mapAccessors.put(property, accessor);
+	}
+
+	/**
+	 * @return name of all properties in order of declaration
+	 */
+	public Set<String> getProperties() {
+		return Collections.unmodifiableSet(mapAccessors.keySet());
+	}
+
+	/**
+	 * @param property
+	 * @return
+	 */
+	public boolean hasProperty(String property) {
+		return mapAccessors.containsKey(property);
+	}
+
+	/**
+	 * @param property
+	 * @return accessor of property or null when class doesn't have given property
+	 */
+	public PropertyAccessor getPropertyAccessor(String property) {
+		return mapAccessors.get(property);
+	}
+
+	/**
+	 * Used by generated accessor when getter throws exception, same as reflection
+	 * value of property will be null.
+	 *
+	 * @param e
+	 * @return
+	 */
+	protected static Object failed(Throwable e) {
+		logger.info(e.getMessage());
+		return null;
+	}
+
+	/**
+	 * Load accessor generated at build time for {@link ReaderWriterBean}.
+	 *
+	 * @param type
+	 * @return accessor or null when it's not generated
+	 */
+	private static BeanAccessor generated(Class<?> type) {
+		if (ReaderWriterBean.class.isAssignableFrom(type) && type.getClassLoader() != null) {
+			try {
+				Class<?> accessorClass = Class.forName(type.getName() + GENERATED_SUFFIX, true,
+						type.getClassLoader());
+				if (BeanAccessor.class.isAssignableFrom(accessorClass)) {
+					return (BeanAccessor) accessorClass.getConstructor().newInstance();
+				}
+			} catch (ClassNotFoundException e) {
+				/* accessor is not generated for this class */
+			} catch (ReflectiveOperationException | LinkageError e) {
+				logger.info(e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Build accessor plan using reflection.
+	 *
+	 * @param type
+	 * @return
+	 */
+	private static BeanAccessor reflective(Class<?> type) {
+		BeanAccessor beanAccessor = new BeanAccessor();
+		Field[] arrayFields = type.getDeclaredFields();
+		Method[] methods = type.getDeclaredMethods();
+
+		/* access super class properties(variables) */
+		Class<?> superClass = type.getSuperclass();
+		if (superClass != null && superClass != ReaderWriterBean.class
+				&& ReaderWriterBean.class.isAssignableFrom(superClass)) {
+			arrayFields = concat(arrayFields, superClass.getDeclaredFields());
+			methods = concat(methods, superClass.getDeclaredMethods());
+		}
+
+		for (Field field : arrayFields) {
+			if (!field.isAnnotationPresent(IgnoreField.class)) {
+				String columnName = field.getName();
+				if (StringUtils.nonNullNotEmpty(columnName) && !columnName.startsWith("$")) {
+					beanAccessor.register(columnName, getterAccessor(columnName, methods));
+				}
+			}
+		}
+		return beanAccessor;
+	}
+
+	/**
+	 * Find getter of given field and convert it to {@link PropertyAccessor}.
+	 *
+	 * @param columnName
+	 * @param methods
+	 * @return
+	 */
+	private static PropertyAccessor getterAccessor(String columnName, Method[] methods) {
+		String getMethodName = "get" + columnName;
+		String isMethodName = "is" + columnName;
+		for (Method method : methods) {
+			if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+					&& (getMethodName.equalsIgnoreCase(method.getName())
+							|| isMethodName.equalsIgnoreCase(method.getName()))) {
+				try {
+					MethodHandle methodHandle = MethodHandles.lookup().unreflect(method)
+							.asType(MethodType.methodType(Object.class, Object.class));
+					return bean -> {
+						try {
+							return methodHandle.invokeExact(bean);
+						} catch (Throwable e) {
+							logger.info(e.getMessage());
+							return null;
+						}
+					};
+				} catch (IllegalAccessException e) {
+					logger.info(e.getMessage());
+				}
+				break;
+			}
+		}
+		return NULL_ACCESSOR;
+	}
+
+	private static <T> T[] concat(T[] first, T[] second) {
+		T[] array = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, array, first.length, second.length);
+		return array;
+	}
+}
@@ -0,0 +1,204 @@
+package com.openxcell.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.openxcell.annotation.IgnoreField;
+import com.openxcell.writer.iface.ReaderWriterBean;
+
+/**
+ * Mutator plan of bean class, counterpart of {@link BeanAccessor} used by
+ * readers. Setter methods and no-arg constructor are resolved only once per
+ * class and kept in {@link ClassValue}.<br/>
+ * <br/>
+ * Property resolution is same as {@link BeanAccessor}: declared fields of class
+ * and its {@link ReaderWriterBean} super class, skipping {@link IgnoreField} and
+ * `$` fields. Setter is `set` + field name (case insensitive) with one
+ * parameter, field without setter is not writable.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class BeanMutator {
+	private static Logger logger = Logger.getLogger(BeanMutator.class.getName());
+
+	private static final ClassValue<BeanMutator> mutators = new ClassValue<BeanMutator>() {
+		@Override
+		protected BeanMutator computeValue(Class<?> type) {
+			return new BeanMutator(type);
+		}
+	};
+
+	private final Class<?> type;
+	/* property => setter, in order of declaration */
+	private final Map<String, Setter> mapSetters = new LinkedHashMap<>();
+	private final MethodHandle constructor;
+
+	private BeanMutator(Class<?> type) {
+		this.type = type;
+
+		Field[] arrayFields = type.getDeclaredFields();
+		Method[] methods = type.getDeclaredMethods();
+		Class<?> superClass = type.getSuperclass();
+		if (superClass != null && superClass != ReaderWriterBean.class
+				&& ReaderWriterBean.class.isAssignableFrom(superClass)) {
+			arrayFields = concat(arrayFields, superClass.getDeclaredFields());
+			methods = concat(methods, superClass.getDeclaredMethods());
+		}
+
+		for (Field field : arrayFields) {
+			String columnName = field.getName();
+			if (!field.isAnnotationPresent(IgnoreField.class) && StringUtils.nonNullNotEmpty(columnName)
+					&& !columnName.startsWith("$")) {
+				Setter setter = setter(columnName, methods);
+				if (setter != null) {
+					mapSetters.put(columnName, setter);
+				}
+			}
+		}
+		this.constructor = constructor(type);
+	}
+
+	/**
+	 * Get mutator plan of given class. Plan is built on first call and reused
+	 * afterwards.
+	 *
+	 * @param type
+	 * @return
+	 */
+	public static BeanMutator forClass(Class<?> type) {
+		return mutators.get(type);
+	}
+
+	/**
+	 * @return name of all writable properties in order of declaration
+	 */
+	public Set<String> getProperties() {
+		return Collections.unmodifiableSet(mapSetters.keySet());
+	}
+
+	/**
+	 * @param property
+	 * @return true when property has setter
+	 */
+	public boolean hasProperty(String property) {
+		return mapSetters.containsKey(property);
+	}
+
+	/**
+	 * @param property
+	 * @return parameter type of setter or null when property is not writable
+	 */
+	public Class<?> getPropertyType(String property) {
+		Setter setter = mapSetters.get(property);
+		return setter != null ? setter.type : null;
+	}
+
+	/**
+	 * @return true when class can be created using no-arg constructor
+	 */
+	public boolean isInstantiable() {
+		return constructor != null;
+	}
+
+	/**
+	 * Create new instance using no-arg constructor.
+	 *
+	 * @return
+	 */
+	public Object newInstance() {
+		if (constructor == null) {
+			throw new RuntimeException(type.getName() + " doesn't have public no-arg constructor");
+		}
+		try {
+			return constructor.invoke();
+		} catch (Throwable e) {
+			throw new RuntimeException("Unable to create " + type.getName(), e);
+		}
+	}
+
+	/**
+	 * Set value of property, value must be assignable to
+	 * {@link #getPropertyType(String)}.
+	 *
+	 * @param bean
+	 * @param property
+	 * @param value
+	 */
+	public void set(Object bean, String property, Object value) {
+		Setter setter = mapSetters.get(property);
+		if (setter == null) {
+			throw new RuntimeException("Property `" + property + "` of " + type.getName() + " is not writable");
+		}
+		try {
+			setter.methodHandle.invokeExact(bean, value);
+		} catch (Throwable e) {
+			throw new RuntimeException("Unable to set `" + property + "` of " + type.getName(), e);
+		}
+	}
+
+	/**
+	 * Find setter of given field.
+	 *
+	 * @param columnName
+	 * @param methods
+	 * @return
+	 */
+	private static Setter setter(String columnName, Method[] methods) {
+		String setMethodName = "set" + columnName;
+		for (Method method : methods) {
+			if (method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())
+					&& setMethodName.equalsIgnoreCase(method.getName())) {
+				try {
+					MethodHandle methodHandle = MethodHandles.lookup().unreflect(method)
+							.asType(MethodType.methodType(void.class, Object.class, Object.class));
+					return new Setter(method.getParameterTypes()[0], methodHandle);
+				} catch (IllegalAccessException e) {
+					logger.info(e.getMessage());
+				}
+				break;
+			}
+		}
+		return null;
+	}
+
+	private static MethodHandle constructor(Class<?> type) {
+		if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+			return null;
+		}
+		try {
+			Constructor<?> constructor = type.getConstructor();
+			return MethodHandles.lookup().unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static <T> T[] concat(T[] first, T[] second) {
+		T[] array = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, array, first.length, second.length);
+		return array;
+	}
+
+	private static class Setter {
+		private final Class<?> type;
+		private final MethodHandle methodHandle;
+
+		Setter(Class<?> type, MethodHandle methodHandle) {
+			this.type = type;
+			this.methodHandle = methodHandle;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package com.openxcell.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of properties loaded from object (Map<"property",
+ * {@link BeanPropertyHolder}>).<br/>
+ * <br/>
+ * Objects are compared by identity (not equals/hashCode) and referenced weakly
+ * so cache never keeps object graph alive. Size of cache is bounded by one of
+ * following {@link Scope}:
+ * <ul>
+ * <li>{@link Scope#ROW} - cache is cleared on every new row</li>
+ * <li>{@link Scope#LRU} - least recently used objects are evicted once cache
+ * reaches maximum size</li>
+ * </ul>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class BeanPropertyCache {
+	public enum Scope {
+		ROW, LRU
+	}
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final Scope scope;
+	private final int maximumSize;
+	private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+	private final Map<IdentityKey, Map<String, BeanPropertyHolder>> mapObjectCache;
+
+	/* stats */
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+
+	private BeanPropertyCache(Scope scope, int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new RuntimeException("Provide maximumSize greater than 0.");
+		}
+		this.scope = scope;
+		this.maximumSize = maximumSize;
+		this.mapObjectCache = new LinkedHashMap<IdentityKey, Map<String, BeanPropertyHolder>>(16, 0.75f, true) {
+			private static final long serialVersionUID = -4620934563325614373L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IdentityKey, Map<String, BeanPropertyHolder>> eldest) {
+				if (size() > BeanPropertyCache.this.maximumSize) {
+					evictionCount++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Cache holding objects of current row only.
+	 *
+	 * @return
+	 */
+	public static BeanPropertyCache rowScoped() {
+		return new BeanPropertyCache(Scope.ROW, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Cache holding at most given number of objects.
+	 *
+	 * @param maximumSize
+	 * @return
+	 */
+	public static BeanPropertyCache lru(int maximumSize) {
+		return new BeanPropertyCache(Scope.LRU, maximumSize);
+	}
+
+	/**
+	 * New empty cache with same scope and size, i.e: for another thread.
+	 *
+	 * @return
+	 */
+	public BeanPropertyCache emptyCopy() {
+		return new BeanPropertyCache(scope, maximumSize);
+	}
+
+	/**
+	 * Get properties cached for given object. Empty map is registered when object
+	 * is not available in cache.
+	 *
+	 * @param object
+	 * @return
+	 */
+	public Map<String, BeanPropertyHolder> get(Object object) {
+		expungeStaleEntries();
+		Map<String, BeanPropertyHolder> mapProperties = mapObjectCache.get(new IdentityKey(object, null));
+		if (mapProperties != null) {
+			hitCount++;
+		} else {
+			missCount++;
+			mapProperties = new HashMap<>();
+			mapObjectCache.put(new IdentityKey(object, referenceQueue), mapProperties);
+		}
+		return mapProperties;
+	}
+
+	/**
+	 * Notify cache about new row.
+	 */
+	public void nextRow() {
+		if (Scope.ROW == scope) {
+			evictionCount += mapObjectCache.size();
+			mapObjectCache.clear();
+		}
+	}
+
+	/**
+	 * Remove all objects from cache.
+	 */
+	public void clear() {
+		mapObjectCache.clear();
+		while (referenceQueue.poll() != null) {
+			/* drain */
+		}
+	}
+
+	/**
+	 * Add hit/miss/eviction count of other cache in this cache, i.e: cache used by
+	 * another thread.
+	 *
+	 * @param beanPropertyCache
+	 */
+	public void mergeStats(BeanPropertyCache beanPropertyCache) {
+		hitCount += beanPropertyCache.hitCount;
+		missCount += beanPropertyCache.missCount;
+		evictionCount += beanPropertyCache.evictionCount;
+	}
+
+	/**
+	 * Remove objects which are already garbage collected.
+	 */
+	private void expungeStaleEntries() {
+		Reference<?> reference;
+		while ((reference = referenceQueue.poll()) != null) {
+			if (mapObjectCache.remove(reference) != null) {
+				evictionCount++;
+			}
+		}
+	}
+
+	public Scope getScope() {
+		return scope;
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public int size() {
+		return mapObjectCache.size();
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return hit count / request count, 1.0 when there is no request
+	 */
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanPropertyCache [scope=" + scope + ", size=" + size() + ", hitCount=" + hitCount + ", missCount="
+				+ missCount + ", evictionCount=" + evictionCount + "]";
+	}
+
+	/**
+	 * Weak reference to object compared by identity.
+	 */
+	private static class IdentityKey extends WeakReference<Object> {
+		private final int hashCode;
+
+		IdentityKey(Object object, ReferenceQueue<Object> referenceQueue) {
+			super(object, referenceQueue);
+			this.hashCode = System.identityHashCode(object);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+			Object object = get();
+			return object != null && object == ((IdentityKey) obj).get();
+		}
+	}
+}
@@ -1,7 +1,5 @@
 package com.openxcell.util;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
@@ -9,11 +7,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.logging.Logger;
 
-import com.openxcell.annotation.IgnoreField;
 import com.openxcell.util.BeanPropertyHolder.DataType;
-import com.openxcell.writer.iface.ReaderWriterBean;
 
 /**
  * @author vicky.thakor
@@ -21,7 +16,6 @@ import com.openxcell.writer.iface.ReaderWriterBean;
  */
 public class BeanPropertyValueLoader {
 
-	private static Logger logger = Logger.getLogger(BeanPropertyValueLoader.class.getName());
 	private Object localObject;
 
 	public BeanPropertyValueLoader(Object obj) {
@@ -35,58 +29,40 @@ public class BeanPropertyValueLoader {
 	 * 
 	 * @author vicky.thakor
 	 * @date 26th April, 2015
+	 * 
+	 * @change use {@link BeanAccessor} resolved once per class instead of
+	 *         reflection on every call
+	 * @author vicky.thakor
+	 * @since 2026-10-18
 	 */
 	public Map<String, BeanPropertyHolder> getBeanProperties() {
+		BeanAccessor beanAccessor = BeanAccessor.forClass(localObject.getClass());
 		Map<String, BeanPropertyHolder> mapConfiguredColumns = new HashMap<String, BeanPropertyHolder>();
-		Field[] arrayFields = localObject.getClass().getDeclaredFields();
-		Method[] methods = localObject.getClass().getDeclaredMethods();
-
-		/* access super class properties(variables) */
-		if (localObject.getClass().getSuperclass() != null
-				&& localObject.getClass().getSuperclass() != ReaderWriterBean.class
-				&& ReaderWriterBean.class.isAssignableFrom(localObject.getClass().getSuperclass())) {
-			Field[] temporaryFields = arrayFields;
-			Field[] superFields = localObject.getClass().getSuperclass().getDeclaredFields();
-			int totalFields = temporaryFields.length + superFields.length;
-			arrayFields = new Field[totalFields];
-
-			System.arraycopy(temporaryFields, 0, arrayFields, 0, temporaryFields.length);
-			System.arraycopy(superFields, 0, arrayFields, temporaryFields.length, superFields.length);
-
-			Method[] temporary = methods;
-			Method[] superMethods = localObject.getClass().getSuperclass().getDeclaredMethods();
-			int totalMethods = temporary.length + superMethods.length;
-			methods = new Method[totalMethods];
-
-			System.arraycopy(temporary, 0, methods, 0, temporary.length);
-			System.arraycopy(superMethods, 0, methods, temporary.length, superMethods.length);
+		for (String columnName : beanAccessor.getProperties()) {
+			Object columnValue = beanAccessor.getPropertyAccessor(columnName).get(localObject);
+			mapConfiguredColumns.put(columnName,
+					new BeanPropertyHolder(columnName, columnValue, getVariableDataType(columnValue)));
 		}
+		return mapConfiguredColumns;
+	}
 
-		for (int i = 0; i < arrayFields.length; i++) {
-			if (!arrayFields[i].isAnnotationPresent(IgnoreField.class)) {
-				String columnName = arrayFields[i].getName();
-				Object columnValue = null;
-				if (StringUtils.nonNullNotEmpty(columnName) && !columnName.startsWith("$")) {
-					String getMethodName = columnName.replaceFirst(columnName.substring(0, 1),
-							columnName.substring(0, 1).toUpperCase());
-
-					try {
-						for (Method method : methods) {
-							if (("get" + getMethodName).equalsIgnoreCase(method.getName())
-									|| ("is" + getMethodName).equalsIgnoreCase(method.getName())) {
-								columnValue = method.invoke(localObject);
-								break;
-							}
-						}
-					} catch (Exception e) {
-						logger.info(e.getMessage());
-					}
-					mapConfiguredColumns.put(columnName,
-							new BeanPropertyHolder(columnName, columnValue, getVariableDataType(columnValue)));
-				}
-			}
+	/**
+	 * Get value of single property without invoking rest of the getters of
+	 * object. Useful for entities where getter may trigger lazy loading of
+	 * association.
+	 * 
+	 * @param property
+	 * @return {@link BeanPropertyHolder} or null when object doesn't have given
+	 *         property
+	 */
+	public BeanPropertyHolder getBeanProperty(String property) {
+		PropertyAccessor propertyAccessor = BeanAccessor.forClass(localObject.getClass())
+				.getPropertyAccessor(property);
+		if (propertyAccessor == null) {
+			return null;
 		}
-		return mapConfiguredColumns;
+		Object value = propertyAccessor.get(localObject);
+		return new BeanPropertyHolder(property, value, getVariableDataType(value));
 	}
 
 	/**
@@ -0,0 +1,17 @@
+package com.openxcell.util;
+
+/**
+ * Read single property of bean without going through reflection on every
+ * call. Instances are resolved once per class by {@link BeanAccessor}.
+ * 
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface PropertyAccessor {
+	/**
+	 * @param bean
+	 * @return value of property or null
+	 */
+	public Object get(Object bean);
+}
@@ -0,0 +1,339 @@
+package com.openxcell.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parsed property path of template, i.e:
+ * <ul>
+ * <li>Item.itemWarehouse.warehouseName</li>
+ * <li>Item.itemPrice[2].priceListId - 2nd element of collection</li>
+ * <li>Item.itemPrice.value(priceListId=2;status!="Active") - value of element
+ * which matches filter, see {@link PropertyPredicate}</li>
+ * </ul>
+ * First segment (`Item`) is name of root object, it's not evaluated. Path is
+ * parsed only once (see {@link #parse(String)}) and evaluated by walking its
+ * {@link Segment}s, malformed path is reported while parsing.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public final class PropertyPath {
+	private final String expression;
+	private final String root;
+	private final Segment[] segments;
+
+	private PropertyPath(String expression, String root, Segment[] segments) {
+		this.expression = expression;
+		this.root = root;
+		this.segments = segments;
+	}
+
+	/**
+	 * Parse property path of template.
+	 *
+	 * @param expression
+	 *            - i.e: Item.itemPrice[2].priceListId
+	 * @return
+	 * @throws RuntimeException
+	 *             when path is malformed
+	 */
+	public static PropertyPath parse(String expression) {
+		StringUtils.requireNonNullNotEmpty(expression, "property can not be null or empty");
+		List<String> tokens = split(expression, expression, '.');
+
+		String root = tokens.get(0);
+		if (!isName(root)) {
+			throw invalid(expression, "`" + root + "` is not valid name of root object");
+		}
+
+		Segment[] segments = new Segment[tokens.size() - 1];
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = segment(expression, tokens.get(i + 1), i == segments.length - 1);
+		}
+		return new PropertyPath(expression, root, segments);
+	}
+
+	/**
+	 * @return path as written in template
+	 */
+	public String getExpression() {
+		return expression;
+	}
+
+	/**
+	 * @return name of root object, i.e: `Item`
+	 */
+	public String getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return number of segments after root
+	 */
+	public int size() {
+		return segments.length;
+	}
+
+	/**
+	 * @param index
+	 *            - 0 based index of segment after root
+	 * @return
+	 */
+	public Segment getSegment(int index) {
+		return segments[index];
+	}
+
+	/**
+	 * @return true when none of segment has index or filter
+	 */
+	public boolean isSimple() {
+		for (Segment segment : segments) {
+			if (segment.hasIndex() || segment.hasFilter()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param path
+	 * @return true when segments of given path are leading segments of this
+	 *         path, index and filter are ignored. i.e: `Item.lines.lots.lotNo`
+	 *         starts with `Item.lines`
+	 */
+	public boolean startsWith(PropertyPath path) {
+		if (!root.equals(path.root) || path.segments.length > segments.length) {
+			return false;
+		}
+		for (int i = 0; i < path.segments.length; i++) {
+			if (!segments[i].name.equals(path.segments[i].name)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Path relative to value of given segment, i.e: `Item.lines.lots.lotNo` from
+	 * 1 => `lines.lots.lotNo` (evaluated on line)
+	 *
+	 * @param from
+	 *            - number of leading segments to remove, 0 for same path
+	 * @return
+	 */
+	public PropertyPath subPath(int from) {
+		if (from == 0) {
+			return this;
+		}
+		StringBuilder subExpression = new StringBuilder(segments[from - 1].name);
+		for (int i = from; i < segments.length; i++) {
+			subExpression.append('.').append(segments[i].text);
+		}
+		return new PropertyPath(subExpression.toString(), segments[from - 1].name,
+				Arrays.copyOfRange(segments, from, segments.length));
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	/**
+	 * Property of path, i.e: `itemPrice[2]`, `value(priceListId=2)`
+	 */
+	public static final class Segment {
+		private final String text;
+		private final String name;
+		/* 0 based index of element, -1 when not specified */
+		private final int index;
+		private final Filter filter;
+		private final boolean last;
+
+		private Segment(String text, String name, int index, Filter filter, boolean last) {
+			this.text = text;
+			this.name = name;
+			this.index = index;
+			this.filter = filter;
+			this.last = last;
+		}
+
+		/**
+		 * @return property name without index and filter
+		 */
+		public String getName() {
+			return name;
+		}
+
+		public boolean hasIndex() {
+			return index >= 0;
+		}
+
+		/**
+		 * @return 0 based index of element (`[1]` and `[]` are first element)
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public boolean hasFilter() {
+			return filter != null;
+		}
+
+		public Filter getFilter() {
+			return filter;
+		}
+
+		/**
+		 * @return true for last segment of path
+		 */
+		public boolean isLast() {
+			return last;
+		}
+	}
+
+	/**
+	 * Filter of segment, all conditions must match. i.e:
+	 * `(priceListId=2;status!="Active")`
+	 */
+	public static final class Filter {
+		private final List<PropertyPredicate> conditions;
+
+		private Filter(List<PropertyPredicate> conditions) {
+			this.conditions = Collections.unmodifiableList(conditions);
+		}
+
+		/**
+		 * @return conditions in order of declaration
+		 */
+		public List<PropertyPredicate> getConditions() {
+			return conditions;
+		}
+	}
+
+	private static Segment segment(String expression, String token, boolean last) {
+		int suffix = 0;
+		while (suffix < token.length() && token.charAt(suffix) != '[' && token.charAt(suffix) != '(') {
+			suffix++;
+		}
+		String name = token.substring(0, suffix);
+		if (!isName(name)) {
+			throw invalid(expression, "`" + token + "` is not valid property");
+		}
+		if (suffix == token.length()) {
+			return new Segment(token, name, -1, null, last);
+		}
+
+		char close = token.charAt(suffix) == '[' ? ']' : ')';
+		if (token.charAt(token.length() - 1) != close || closing(token, suffix) != token.length() - 1) {
+			throw invalid(expression, "`" + token + "` must end with index or filter");
+		}
+		String body = token.substring(suffix + 1, token.length() - 1);
+
+		if (close == ']') {
+			int index = 0;
+			if (!body.isEmpty()) {
+				if (!RegExUtils.isInteger(body) || body.startsWith("-")) {
+					throw invalid(expression, "index of `" + name + "` must be positive number");
+				}
+				index = Integer.parseInt(body);
+			}
+			return new Segment(token, name, index != 0 ? index - 1 : 0, null, last);
+		}
+
+		if (!last) {
+			throw invalid(expression, "filter is only allowed on last property, found on `" + name + "`");
+		}
+		if (body.endsWith(";")) {
+			body = body.substring(0, body.length() - 1);
+		}
+		List<PropertyPredicate> conditions = new ArrayList<>();
+		for (String term : split(expression, body, ';')) {
+			conditions.add(PropertyPredicate.parse(expression, term));
+		}
+		return new Segment(token, name, -1, new Filter(conditions), last);
+	}
+
+	/**
+	 * Split on given separator except when it's inside `[]`, `()` or quotes.
+	 */
+	static List<String> split(String expression, String text, char separator) {
+		List<String> tokens = new ArrayList<>();
+		int depth = 0;
+		char quote = 0;
+		int start = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '[' || c == '(') {
+				depth++;
+			} else if (c == ']' || c == ')') {
+				if (--depth < 0) {
+					throw invalid(expression, "unbalanced `" + c + "`");
+				}
+			} else if (c == separator && depth == 0) {
+				tokens.add(token(expression, text, start, i));
+				start = i + 1;
+			}
+		}
+		if (quote != 0 || depth != 0) {
+			throw invalid(expression, "unclosed " + (quote != 0 ? "quote" : "bracket"));
+		}
+		tokens.add(token(expression, text, start, text.length()));
+		return tokens;
+	}
+
+	private static String token(String expression, String text, int start, int end) {
+		String token = text.substring(start, end).trim();
+		if (token.isEmpty()) {
+			throw invalid(expression, "empty segment in `" + text + "`");
+		}
+		return token;
+	}
+
+	/**
+	 * @return index of bracket closing the one at given index
+	 */
+	private static int closing(String token, int open) {
+		int depth = 0;
+		char quote = 0;
+		for (int i = open; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '[' || c == '(') {
+				depth++;
+			} else if ((c == ']' || c == ')') && --depth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static boolean isName(String name) {
+		if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+			return false;
+		}
+		for (int i = 1; i < name.length(); i++) {
+			if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static RuntimeException invalid(String expression, String reason) {
+		return new RuntimeException("Invalid property `" + expression + "`: " + reason);
+	}
+}
@@ -0,0 +1,228 @@
+package com.openxcell.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compiled condition of {@link PropertyPath} filter, i.e: `priceListId=2`,
+ * `status!="Active"`, `price>=10.5`, `created<"2018-01-01"`,
+ * `type in(1, 2)`.<br/>
+ * <br/>
+ * Value of condition is parsed only once into every form it can take (long,
+ * decimal, date, boolean, text), value of property is compared with the form
+ * matching its type so evaluation doesn't convert anything to {@link String}.
+ * Value which can't be compared with property (i.e: `status>"Active"` on
+ * boolean) doesn't match, except `!=`.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public final class PropertyPredicate {
+	/* comparison result of values which can't be compared */
+	private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+	private static final String[] DATE_FORMATS = { "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd" };
+
+	public enum Operator {
+		EQUAL("="), NOT_EQUAL("!="), LESS("<"), LESS_OR_EQUAL("<="), GREATER(">"), GREATER_OR_EQUAL(">="), IN("in");
+
+		private final String symbol;
+
+		private Operator(String symbol) {
+			this.symbol = symbol;
+		}
+
+		public String getSymbol() {
+			return symbol;
+		}
+	}
+
+	private final String property;
+	private final Operator operator;
+	private final Literal[] values;
+
+	private PropertyPredicate(String property, Operator operator, Literal[] values) {
+		this.property = property;
+		this.operator = operator;
+		this.values = values;
+	}
+
+	/**
+	 * @param expression
+	 *            - property path, used in error message
+	 * @param term
+	 *            - i.e: priceListId=2
+	 * @return
+	 */
+	static PropertyPredicate parse(String expression, String term) {
+		int position = 0;
+		while (position < term.length() && Character.isJavaIdentifierPart(term.charAt(position))) {
+			position++;
+		}
+		String property = term.substring(0, position);
+		String condition = term.substring(position).trim();
+		if (!PropertyPath.isName(property)) {
+			throw PropertyPath.invalid(expression, "condition `" + term + "` doesn't have valid property");
+		}
+
+		if (condition.regionMatches(true, 0, "in", 0, 2) && condition.substring(2).trim().startsWith("(")) {
+			String list = condition.substring(2).trim();
+			if (!list.endsWith(")")) {
+				throw PropertyPath.invalid(expression, "condition `" + term + "` must end with `)`");
+			}
+			List<String> items = PropertyPath.split(expression, list.substring(1, list.length() - 1), ',');
+			Literal[] values = new Literal[items.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = new Literal(items.get(i));
+			}
+			return new PropertyPredicate(property, Operator.IN, values);
+		}
+
+		Operator operator = null;
+		for (Operator candidate : Operator.values()) {
+			if (candidate != Operator.IN && condition.startsWith(candidate.getSymbol())
+					&& (operator == null || candidate.getSymbol().length() > operator.getSymbol().length())) {
+				operator = candidate;
+			}
+		}
+		if (operator == null) {
+			throw PropertyPath.invalid(expression, "condition `" + term + "` doesn't have operator");
+		}
+		String value = condition.substring(operator.getSymbol().length()).trim();
+		return new PropertyPredicate(property, operator, new Literal[] { new Literal(value) });
+	}
+
+	/**
+	 * @return property of filtered object, i.e: `priceListId`
+	 */
+	public String getProperty() {
+		return property;
+	}
+
+	public Operator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * @param value
+	 *            - value of {@link #getProperty()}
+	 * @return true when value matches condition
+	 */
+	public boolean test(Object value) {
+		if (value == null) {
+			return operator == Operator.NOT_EQUAL;
+		}
+		switch (operator) {
+		case EQUAL:
+			return compare(value, values[0]) == 0;
+		case NOT_EQUAL:
+			return compare(value, values[0]) != 0;
+		case IN:
+			for (Literal literal : values) {
+				if (compare(value, literal) == 0) {
+					return true;
+				}
+			}
+			return false;
+		default:
+			int result = compare(value, values[0]);
+			if (result == INCOMPARABLE) {
+				return false;
+			}
+			switch (operator) {
+			case LESS:
+				return result < 0;
+			case LESS_OR_EQUAL:
+				return result <= 0;
+			case GREATER:
+				return result > 0;
+			default:
+				return result >= 0;
+			}
+		}
+	}
+
+	/**
+	 * @param value
+	 * @param literal
+	 * @return sign of value - literal, {@link #INCOMPARABLE} when literal doesn't
+	 *         have form of value
+	 */
+	private static int compare(Object value, Literal literal) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			long number = ((Number) value).longValue();
+			if (literal.integral) {
+				return Long.compare(number, literal.longValue);
+			}
+			return literal.decimal != null ? Double.compare(number, literal.doubleValue) : INCOMPARABLE;
+		} else if (value instanceof BigDecimal) {
+			return literal.decimal != null ? ((BigDecimal) value).compareTo(literal.decimal) : INCOMPARABLE;
+		} else if (value instanceof BigInteger) {
+			return literal.decimal != null ? new BigDecimal((BigInteger) value).compareTo(literal.decimal)
+					: INCOMPARABLE;
+		} else if (value instanceof Number) {
+			return literal.decimal != null ? Double.compare(((Number) value).doubleValue(), literal.doubleValue)
+					: INCOMPARABLE;
+		} else if (value instanceof Date) {
+			if (literal.date) {
+				return Long.compare(((Date) value).getTime(), literal.time);
+			}
+			return literal.integral ? Long.compare(((Date) value).getTime(), literal.longValue) : INCOMPARABLE;
+		} else if (value instanceof Boolean) {
+			return literal.bool != null ? Boolean.compare((Boolean) value, literal.bool) : INCOMPARABLE;
+		} else if (value instanceof Enum) {
+			return Integer.signum(((Enum<?>) value).name().compareTo(literal.text));
+		}
+		return Integer.signum(value.toString().compareTo(literal.text));
+	}
+
+	/**
+	 * Value of condition in every form it can be compared with.
+	 */
+	private static final class Literal {
+		private final String text;
+		private final boolean integral;
+		private final long longValue;
+		private final BigDecimal decimal;
+		private final double doubleValue;
+		private final Boolean bool;
+		private final boolean date;
+		private final long time;
+
+		Literal(String value) {
+			if (value.length() > 1 && (value.charAt(0) == '"' || value.charAt(0) == '\'')
+					&& value.charAt(value.length() - 1) == value.charAt(0)) {
+				value = value.substring(1, value.length() - 1);
+			}
+			this.text = value;
+
+			BigDecimal number = null;
+			if (RegExUtils.isNumber(value)) {
+				number = new BigDecimal(value);
+			}
+			this.decimal = number;
+			this.doubleValue = number != null ? number.doubleValue() : 0;
+			this.integral = RegExUtils.isInteger(value) && value.length() < 19;
+			this.longValue = integral ? Long.parseLong(value) : 0;
+			this.bool = RegExUtils.isBoolean(value) ? Boolean.valueOf(value) : null;
+
+			Date parsed = null;
+			for (String format : DATE_FORMATS) {
+				SimpleDateFormat dateFormat = new SimpleDateFormat(format);
+				dateFormat.setLenient(false);
+				ParsePosition parsePosition = new ParsePosition(0);
+				parsed = dateFormat.parse(value, parsePosition);
+				if (parsed != null && parsePosition.getIndex() == value.length()) {
+					break;
+				}
+				parsed = null;
+			}
+			this.date = parsed != null;
+			this.time = parsed != null ? parsed.getTime() : 0;
+		}
+	}
+}
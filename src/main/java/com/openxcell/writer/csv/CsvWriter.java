@@ -0,0 +1,431 @@
+package com.openxcell.writer.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.iface.Writer;
+import com.openxcell.writer.spreadsheet.SpreadSheetMultiValue;
+import com.openxcell.writer.spreadsheet.SpreadSheetRowEvaluator;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Write CSV/TSV using {@link SpreadSheetTemplate} (header, properties, replace,
+ * extended_replace, format_cell_value). Values are encoded in UTF-8 directly
+ * into reusable direct {@link ByteBuffer} and written to {@link FileChannel},
+ * no POI, style or compression is involved.<br/>
+ * <br/>
+ * Fields are quoted as per RFC 4180 (only when field contains delimiter, quote
+ * or line break), records end with CRLF. Dates are written as
+ * `yyyy-MM-dd HH:mm:ss` in local time zone and numbers without exponent.
+ * Values of collection are written in following records and collections
+ * configured in `explode` of template are exploded into rows, same as
+ * spreadsheet. Summation and styles of template don't apply to CSV.<br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * new CsvWriter&lt;Order&gt;(template).write(fileHolder, orders);
+ * CsvWriter.&lt;Order&gt; tsv(template).write(fileHolder, orders);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change ASCII delimiter, decimals written in plain notation
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class CsvWriter<T> implements Writer<List<T>> {
+	private static Logger logger = Logger.getLogger(CsvWriter.class.getName());
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final byte[] BYTE_ORDER_MARK = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+	private final SpreadSheetTemplate spreadSheetTemplate;
+	private char delimiter = ',';
+	private boolean byteOrderMark = false;
+
+	/* state of current write */
+	private FileChannel fileChannel;
+	private ByteBuffer byteBuffer;
+	private final Calendar calendar = Calendar.getInstance();
+
+	public CsvWriter(SpreadSheetTemplate spreadSheetTemplate) {
+		this.spreadSheetTemplate = Objects.requireNonNull(spreadSheetTemplate, "template can not be null");
+	}
+
+	/**
+	 * Tab separated writer.
+	 *
+	 * @param spreadSheetTemplate
+	 * @return
+	 */
+	public static <T> CsvWriter<T> tsv(SpreadSheetTemplate spreadSheetTemplate) {
+		return new CsvWriter<T>(spreadSheetTemplate).setDelimiter('\t');
+	}
+
+	/**
+	 * @param delimiter
+	 *            - ASCII character, default `,`
+	 * @return
+	 */
+	public CsvWriter<T> setDelimiter(char delimiter) {
+		if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+			throw new RuntimeException("Delimiter can not be quote or line break");
+		}
+		/* delimiter is written as single byte */
+		if (delimiter > 0x7F) {
+			throw new RuntimeException("Provide ASCII delimiter.");
+		}
+		this.delimiter = delimiter;
+		return this;
+	}
+
+	/**
+	 * Start file with UTF-8 byte order mark, required by Excel to detect UTF-8.
+	 *
+	 * @param byteOrderMark
+	 * @return
+	 */
+	public CsvWriter<T> setByteOrderMark(boolean byteOrderMark) {
+		this.byteOrderMark = byteOrderMark;
+		return this;
+	}
+
+	@Override
+	public void write(FileHolder fileHolder, List<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, data.iterator());
+	}
+
+	/**
+	 * Write data consumed row by row from stream. Stream is not closed, caller
+	 * owns the stream.
+	 *
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Stream<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, data.iterator());
+	}
+
+	/**
+	 * Write data consumed row by row from spliterator.
+	 *
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Spliterator<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, Spliterators.iterator(data));
+	}
+
+	/**
+	 * Write data consumed row by row from iterator.
+	 *
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Iterator<T> data) {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		Objects.requireNonNull(data, "data can not be null");
+
+		try (FileChannel channel = FileChannel.open(fileHolder.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			fileChannel = channel;
+			if (Objects.isNull(byteBuffer)) {
+				byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+			}
+			byteBuffer.clear();
+
+			if (byteOrderMark) {
+				byteBuffer.put(BYTE_ORDER_MARK);
+			}
+			writeHeader();
+			writeRows(data);
+			flush();
+		} catch (IOException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+		} finally {
+			fileChannel = null;
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		JSONArray header = spreadSheetTemplate.getHeader();
+		if (Objects.nonNull(header)) {
+			for (int i = 0; i < header.length(); i++) {
+				if (i > 0) {
+					writeByte(delimiter);
+				}
+				writeText(header.optString(i).trim());
+			}
+			writeLineBreak();
+		}
+	}
+
+	private void writeRows(Iterator<T> data) throws IOException {
+		if (Objects.isNull(spreadSheetTemplate.getProperties())) {
+			return;
+		}
+		SpreadSheetRowEvaluator rowEvaluator = new SpreadSheetRowEvaluator(spreadSheetTemplate);
+		List<Object> fields = new ArrayList<>();
+		List<SpreadSheetMultiValue> collections = new ArrayList<>();
+		int rowCount = 0;
+
+		try {
+			while (data.hasNext()) {
+				rowEvaluator.evaluate(data.next(), ++rowCount, values -> {
+					try {
+						writeRow(values, fields, collections);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Write record of evaluated values, values of collection are written in
+	 * following records.
+	 *
+	 * @param values
+	 * @param fields
+	 *            - reusable list for values of record
+	 * @param collections
+	 *            - reusable list for collections of record
+	 * @throws IOException
+	 */
+	private void writeRow(Object[] values, List<Object> fields, List<SpreadSheetMultiValue> collections)
+			throws IOException {
+		fields.clear();
+		collections.clear();
+		int collectionRowCount = 0;
+
+		for (Object value : values) {
+			if (SpreadSheetRowEvaluator.isCell(value)) {
+				if (value instanceof SpreadSheetMultiValue) {
+					SpreadSheetMultiValue multiValue = (SpreadSheetMultiValue) value;
+					fields.add(multiValue.get(0));
+					collections.add(multiValue);
+					collectionRowCount = Math.max(collectionRowCount, multiValue.size() - 1);
+				} else {
+					fields.add(value);
+					collections.add(null);
+				}
+			}
+		}
+		writeRecord(fields, null, 0);
+
+		/* 1st element of collection is written in first record */
+		for (int i = 1; i <= collectionRowCount; i++) {
+			writeRecord(fields, collections, i);
+		}
+	}
+
+	/**
+	 * @param fields
+	 * @param collections
+	 *            - null to write fields, otherwise only values of collections at
+	 *            given index are written
+	 * @param index
+	 * @throws IOException
+	 */
+	private void writeRecord(List<Object> fields, List<SpreadSheetMultiValue> collections, int index)
+			throws IOException {
+		for (int i = 0; i < fields.size(); i++) {
+			if (i > 0) {
+				writeByte(delimiter);
+			}
+			if (Objects.isNull(collections)) {
+				writeValue(fields.get(i));
+			} else {
+				SpreadSheetMultiValue multiValue = collections.get(i);
+				if (Objects.nonNull(multiValue)) {
+					writeValue(multiValue.get(index));
+				}
+			}
+		}
+		writeLineBreak();
+	}
+
+	private void writeValue(Object value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			writeLong(((Number) value).longValue());
+		} else if (value instanceof BigDecimal) {
+			writeText(((BigDecimal) value).toPlainString());
+		} else if (value instanceof Number) {
+			writeDecimal((Number) value);
+		} else if (value instanceof Date) {
+			writeDate((Date) value);
+		} else {
+			writeText(value.toString());
+		}
+	}
+
+	/**
+	 * Write number without exponent (i.e: `0.00001` instead of `1.0E-5`), float
+	 * is written with its own digits instead of digits of widened double.
+	 *
+	 * @param value
+	 *            - {@link Double}, {@link Float} or other {@link Number}
+	 * @throws IOException
+	 */
+	private void writeDecimal(Number value) throws IOException {
+		String text = value.toString();
+		if (text.indexOf('E') > 0 || text.indexOf('e') > 0) {
+			try {
+				/* digits of exponent form, i.e: `1.0E-5` => `0.00001` */
+				text = new BigDecimal(text).stripTrailingZeros().toPlainString();
+			} catch (NumberFormatException e) {
+				/* number with own text, written as it is */
+			}
+		}
+		writeText(text);
+	}
+
+	/**
+	 * Write text, quoted only when it contains delimiter, quote or line break.
+	 *
+	 * @param text
+	 * @throws IOException
+	 */
+	private void writeText(CharSequence text) throws IOException {
+		boolean quote = false;
+		for (int i = 0; i < text.length() && !quote; i++) {
+			char c = text.charAt(i);
+			quote = c == delimiter || c == '"' || c == '\r' || c == '\n';
+		}
+
+		if (quote) {
+			writeByte('"');
+		}
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			ensureRemaining(4);
+			if (c < 0x80) {
+				if (c == '"') {
+					byteBuffer.put((byte) '"');
+				}
+				byteBuffer.put((byte) c);
+			} else if (c < 0x800) {
+				byteBuffer.put((byte) (0xC0 | (c >> 6)));
+				byteBuffer.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+					&& Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				byteBuffer.put((byte) (0xF0 | (codePoint >> 18)));
+				byteBuffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				byteBuffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				byteBuffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				/* unpaired surrogate */
+				byteBuffer.put((byte) '?');
+			} else {
+				byteBuffer.put((byte) (0xE0 | (c >> 12)));
+				byteBuffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				byteBuffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+		if (quote) {
+			writeByte('"');
+		}
+	}
+
+	/**
+	 * yyyy-MM-dd HH:mm:ss
+	 *
+	 * @param date
+	 * @throws IOException
+	 */
+	private void writeDate(Date date) throws IOException {
+		calendar.setTime(date);
+		ensureRemaining(24);
+		writeLong(calendar.get(Calendar.YEAR));
+		byteBuffer.put((byte) '-');
+		writeTwoDigits(calendar.get(Calendar.MONTH) + 1);
+		byteBuffer.put((byte) '-');
+		writeTwoDigits(calendar.get(Calendar.DAY_OF_MONTH));
+		byteBuffer.put((byte) ' ');
+		writeTwoDigits(calendar.get(Calendar.HOUR_OF_DAY));
+		byteBuffer.put((byte) ':');
+		writeTwoDigits(calendar.get(Calendar.MINUTE));
+		byteBuffer.put((byte) ':');
+		writeTwoDigits(calendar.get(Calendar.SECOND));
+	}
+
+	private void writeTwoDigits(int number) {
+		byteBuffer.put((byte) ('0' + number / 10));
+		byteBuffer.put((byte) ('0' + number % 10));
+	}
+
+	private void writeLong(long number) throws IOException {
+		if (number == Long.MIN_VALUE) {
+			writeText(Long.toString(number));
+			return;
+		}
+		ensureRemaining(20);
+		if (number < 0) {
+			byteBuffer.put((byte) '-');
+			number = -number;
+		}
+		long divisor = 1;
+		while (divisor <= number / 10) {
+			divisor *= 10;
+		}
+		while (divisor > 0) {
+			byteBuffer.put((byte) ('0' + (number / divisor) % 10));
+			divisor /= 10;
+		}
+	}
+
+	private void writeByte(char c) throws IOException {
+		ensureRemaining(1);
+		byteBuffer.put((byte) c);
+	}
+
+	private void writeLineBreak() throws IOException {
+		ensureRemaining(2);
+		byteBuffer.put((byte) '\r');
+		byteBuffer.put((byte) '\n');
+	}
+
+	private void ensureRemaining(int length) throws IOException {
+		if (byteBuffer.remaining() < length) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		byteBuffer.flip();
+		while (byteBuffer.hasRemaining()) {
+			fileChannel.write(byteBuffer);
+		}
+		byteBuffer.clear();
+	}
+}
@@ -0,0 +1,86 @@
+package com.openxcell.writer.metrics;
+
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Receives metrics of export from
+ * {@link com.openxcell.writer.spreadsheet.SpreadSheetManager} and
+ * {@link com.openxcell.writer.spreadsheet.SpreadSheetBeanManager}. Timings are
+ * accumulated while export runs and reported once when workbook is closed, so
+ * listener is called few times per export and never per row.<br/>
+ * <br/>
+ * Every method does nothing by default, implement only what's needed. Default
+ * listener is {@link #NONE}, export doesn't measure anything with it.
+ * Listener shared by exports running at same time must be thread-safe, see
+ * {@link InMemoryExportMetrics}.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public interface ExportMetricsListener {
+	/**
+	 * Listener which doesn't measure anything.
+	 */
+	ExportMetricsListener NONE = new ExportMetricsListener() {
+	};
+
+	/**
+	 * First sheet is created.
+	 *
+	 * @param template
+	 */
+	default void exportStarted(SpreadSheetTemplate template) {
+	}
+
+	/**
+	 * New sheet is created because sheet reached its row threshold.
+	 *
+	 * @param sheetCount
+	 *            - number of sheets including new sheet
+	 * @param previousSheetRowCount
+	 *            - rows of previous sheet including header and summation
+	 */
+	default void sheetRollover(int sheetCount, int previousSheetRowCount) {
+	}
+
+	/**
+	 * Total time of phase in export.
+	 *
+	 * @param phase
+	 * @param nanos
+	 */
+	default void phaseCompleted(ExportPhase phase, long nanos) {
+	}
+
+	/**
+	 * Size of temporary files of SXSSF sheets (compressed size when temporary
+	 * files are compressed). Not reported by direct engine, which doesn't create
+	 * temporary files.
+	 *
+	 * @param bytes
+	 */
+	default void tempFileBytes(long bytes) {
+	}
+
+	/**
+	 * Stats of {@link com.openxcell.util.BeanPropertyCache} used by export.
+	 *
+	 * @param hitCount
+	 * @param missCount
+	 */
+	default void cacheStatistics(long hitCount, long missCount) {
+	}
+
+	/**
+	 * Workbook is written, called after every other metric.
+	 *
+	 * @param rowCount
+	 *            - data rows (rows of collection values included, header and
+	 *            summation excluded)
+	 * @param nanos
+	 *            - time from {@link #exportStarted(SpreadSheetTemplate)}
+	 * @param rowsPerSecond
+	 */
+	default void exportCompleted(long rowCount, long nanos, double rowsPerSecond) {
+	}
+}
@@ -0,0 +1,33 @@
+package com.openxcell.writer.metrics;
+
+/**
+ * Phases of export reported to {@link ExportMetricsListener}.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public enum ExportPhase {
+	/**
+	 * Waiting for objects of data iterator (i.e: fetch of database cursor,
+	 * upstream stream stages), not part of evaluation.
+	 */
+	SOURCE,
+	/**
+	 * Bean to values (property evaluation, replace, format). In parallel
+	 * evaluation it's time writer waited for evaluated rows.
+	 */
+	EVALUATION,
+	/**
+	 * Values to cells of row.
+	 */
+	RENDER,
+	/**
+	 * Creating rows, including rows flushed out of SXSSF window into temporary
+	 * file (or sheet XML of direct engine).
+	 */
+	FLUSH,
+	/**
+	 * Summation of last sheet and final write of workbook into file.
+	 */
+	WRITE
+}
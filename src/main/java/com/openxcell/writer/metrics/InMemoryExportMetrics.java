@@ -0,0 +1,216 @@
+package com.openxcell.writer.metrics;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ExportMetricsListener} which keeps histogram of every metric in
+ * memory, i.e: to check p99 of rows per second of template against SLO. Use
+ * one instance per template to compare templates. Thread-safe, exports of same
+ * template can run at same time.<br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * InMemoryExportMetrics metrics = new InMemoryExportMetrics();
+ * new SpreadSheetWriter&lt;Order&gt;(template).withMetrics(metrics).write(fileHolder, orders);
+ * metrics.getHistogram(InMemoryExportMetrics.ROWS_PER_SECOND).getPercentile(1);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class InMemoryExportMetrics implements ExportMetricsListener {
+	public static final String ROWS_PER_SECOND = "rows_per_second";
+	public static final String ROW_COUNT = "row_count";
+	public static final String EXPORT_NANOS = "export_nanos";
+	public static final String TEMP_FILE_BYTES = "temp_file_bytes";
+	/* hit rate of bean property cache in percent */
+	public static final String CACHE_HIT_PERCENT = "cache_hit_percent";
+
+	private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+	private final Map<ExportPhase, Histogram> phases = new EnumMap<>(ExportPhase.class);
+	private final AtomicLong exportCount = new AtomicLong();
+	private final AtomicLong sheetRolloverCount = new AtomicLong();
+
+	public InMemoryExportMetrics() {
+		for (String name : new String[] { ROWS_PER_SECOND, ROW_COUNT, EXPORT_NANOS, TEMP_FILE_BYTES,
+				CACHE_HIT_PERCENT }) {
+			histograms.put(name, new Histogram());
+		}
+		for (ExportPhase phase : ExportPhase.values()) {
+			phases.put(phase, new Histogram());
+		}
+	}
+
+	@Override
+	public void sheetRollover(int sheetCount, int previousSheetRowCount) {
+		sheetRolloverCount.incrementAndGet();
+	}
+
+	@Override
+	public void phaseCompleted(ExportPhase phase, long nanos) {
+		phases.get(phase).record(nanos);
+	}
+
+	@Override
+	public void tempFileBytes(long bytes) {
+		histograms.get(TEMP_FILE_BYTES).record(bytes);
+	}
+
+	@Override
+	public void cacheStatistics(long hitCount, long missCount) {
+		if (hitCount + missCount > 0) {
+			histograms.get(CACHE_HIT_PERCENT).record(Math.round(hitCount * 100d / (hitCount + missCount)));
+		}
+	}
+
+	@Override
+	public void exportCompleted(long rowCount, long nanos, double rowsPerSecond) {
+		exportCount.incrementAndGet();
+		histograms.get(ROW_COUNT).record(rowCount);
+		histograms.get(EXPORT_NANOS).record(nanos);
+		histograms.get(ROWS_PER_SECOND).record(Math.round(rowsPerSecond));
+	}
+
+	/**
+	 * @param name
+	 *            - i.e: {@link #ROWS_PER_SECOND}
+	 * @return histogram of metric, null for unknown metric
+	 */
+	public Histogram getHistogram(String name) {
+		return histograms.get(name);
+	}
+
+	/**
+	 * @param phase
+	 * @return histogram of nanos spent in phase per export
+	 */
+	public Histogram getHistogram(ExportPhase phase) {
+		return phases.get(phase);
+	}
+
+	/**
+	 * @return number of completed exports
+	 */
+	public long getExportCount() {
+		return exportCount.get();
+	}
+
+	/**
+	 * @return sheet rollovers of all exports
+	 */
+	public long getSheetRolloverCount() {
+		return sheetRolloverCount.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("InMemoryExportMetrics[exports=").append(exportCount)
+				.append(", sheetRollovers=").append(sheetRolloverCount).append(']');
+		for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+			builder.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue());
+		}
+		for (Map.Entry<ExportPhase, Histogram> entry : phases.entrySet()) {
+			builder.append("\n  ").append(entry.getKey().name().toLowerCase()).append("_nanos: ")
+					.append(entry.getValue());
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Histogram of non-negative values. Values are counted in buckets of 8 per
+	 * power of two, so percentile is at most 12.5% above actual value and memory
+	 * is fixed whatever number of values is recorded.
+	 */
+	public static final class Histogram {
+		private static final int SUB_BUCKETS = 8;
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+		private final long[] buckets = new long[BUCKET_COUNT];
+		private long count;
+		private long sum;
+		private long min = Long.MAX_VALUE;
+		private long max;
+
+		/**
+		 * @param value
+		 *            - negative value is recorded as 0
+		 */
+		public synchronized void record(long value) {
+			value = Math.max(0, value);
+			buckets[bucket(value)]++;
+			count++;
+			sum += value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+
+		public synchronized long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return 0 when histogram is empty
+		 */
+		public synchronized long getMin() {
+			return count > 0 ? min : 0;
+		}
+
+		public synchronized long getMax() {
+			return max;
+		}
+
+		public synchronized double getMean() {
+			return count > 0 ? (double) sum / count : 0;
+		}
+
+		/**
+		 * @param percentile
+		 *            - 0 to 100, i.e: 99 for p99
+		 * @return upper bound of bucket holding given percentile, 0 when histogram
+		 *         is empty
+		 */
+		public synchronized long getPercentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100));
+			long seen = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= rank) {
+					return Math.min(max, Math.max(min, upperBound(i)));
+				}
+			}
+			return max;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return "count=" + count + ", min=" + getMin() + ", mean=" + Math.round(getMean()) + ", p50="
+					+ getPercentile(50) + ", p90=" + getPercentile(90) + ", p99=" + getPercentile(99) + ", max=" + max;
+		}
+
+		private static int bucket(long value) {
+			if (value < SUB_BUCKETS) {
+				return (int) value;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(value);
+			int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+		}
+
+		private static long upperBound(int bucket) {
+			if (bucket < SUB_BUCKETS) {
+				return bucket;
+			}
+			int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+			return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+		}
+	}
+}
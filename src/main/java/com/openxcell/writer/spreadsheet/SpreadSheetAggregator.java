@@ -0,0 +1,134 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.Arrays;
+
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplatePlan.Summation.Aggregate;
+
+/**
+ * Aggregate of summation columns (see {@link SpreadSheetTemplatePlan.Summation})
+ * accumulated while cells are written, so summation row is written with its
+ * value without reading rows back. Aggregates are kept in primitive arrays
+ * indexed by column, for current sheet and for all sheets (grand total).<br/>
+ * <br/>
+ * Only numbers are aggregated, same as Excel functions over range: text is
+ * ignored and dates are aggregated as serial date.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetAggregator {
+	/* column index => aggregate, null when column is not aggregated */
+	private Aggregate[] aggregates = new Aggregate[0];
+
+	private double[] sheetSum = new double[0];
+	private long[] sheetCount = new long[0];
+	private double[] sheetMin = new double[0];
+	private double[] sheetMax = new double[0];
+
+	private double[] totalSum = new double[0];
+	private long[] totalCount = new long[0];
+	private double[] totalMin = new double[0];
+	private double[] totalMax = new double[0];
+
+	/**
+	 * Aggregate values of given column.
+	 *
+	 * @param column
+	 * @param aggregate
+	 */
+	void track(int column, Aggregate aggregate) {
+		if (column >= aggregates.length) {
+			int length = Math.max(column + 1, aggregates.length * 2);
+			aggregates = Arrays.copyOf(aggregates, length);
+			sheetSum = Arrays.copyOf(sheetSum, length);
+			sheetCount = Arrays.copyOf(sheetCount, length);
+			sheetMin = Arrays.copyOf(sheetMin, length);
+			sheetMax = Arrays.copyOf(sheetMax, length);
+			totalSum = Arrays.copyOf(totalSum, length);
+			totalCount = Arrays.copyOf(totalCount, length);
+			totalMin = Arrays.copyOf(totalMin, length);
+			totalMax = Arrays.copyOf(totalMax, length);
+		}
+		aggregates[column] = aggregate;
+	}
+
+	/**
+	 * @param column
+	 * @return aggregate of column or null when column is not aggregated
+	 */
+	Aggregate getAggregate(int column) {
+		return column < aggregates.length ? aggregates[column] : null;
+	}
+
+	/**
+	 * Add value of cell, ignored when column is not aggregated.
+	 *
+	 * @param column
+	 * @param value
+	 */
+	void add(int column, double value) {
+		if (column >= aggregates.length || aggregates[column] == null || Double.isNaN(value)) {
+			return;
+		}
+		if (sheetCount[column] == 0 || value < sheetMin[column]) {
+			sheetMin[column] = value;
+		}
+		if (sheetCount[column] == 0 || value > sheetMax[column]) {
+			sheetMax[column] = value;
+		}
+		sheetSum[column] += value;
+		sheetCount[column]++;
+
+		if (totalCount[column] == 0 || value < totalMin[column]) {
+			totalMin[column] = value;
+		}
+		if (totalCount[column] == 0 || value > totalMax[column]) {
+			totalMax[column] = value;
+		}
+		totalSum[column] += value;
+		totalCount[column]++;
+	}
+
+	/**
+	 * @param column
+	 * @return aggregate of current sheet, NaN when there is no value to average
+	 */
+	double getSheetValue(int column) {
+		return value(aggregates[column], sheetSum[column], sheetCount[column], sheetMin[column], sheetMax[column]);
+	}
+
+	/**
+	 * @param column
+	 * @return aggregate of all sheets, NaN when there is no value to average
+	 */
+	double getTotalValue(int column) {
+		return value(aggregates[column], totalSum[column], totalCount[column], totalMin[column], totalMax[column]);
+	}
+
+	/**
+	 * Start aggregating next sheet.
+	 */
+	void nextSheet() {
+		Arrays.fill(sheetSum, 0);
+		Arrays.fill(sheetCount, 0);
+		Arrays.fill(sheetMin, 0);
+		Arrays.fill(sheetMax, 0);
+	}
+
+	private static double value(Aggregate aggregate, double sum, long count, double min, double max) {
+		switch (aggregate) {
+		case AVG:
+			/* #DIV/0! in Excel */
+			return count > 0 ? sum / count : Double.NaN;
+		case MIN:
+			/* Excel returns 0 for range without numbers */
+			return count > 0 ? min : 0;
+		case MAX:
+			return count > 0 ? max : 0;
+		case COUNT:
+			return count;
+		default:
+			return sum;
+		}
+	}
+}
@@ -1,21 +1,21 @@
 package com.openxcell.writer.spreadsheet;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+import com.openxcell.util.BeanPropertyCache;
 import com.openxcell.util.CollectionUtils;
-import com.openxcell.util.StringUtils;
+import com.openxcell.writer.metrics.ExportMetricsListener;
+import com.openxcell.writer.metrics.ExportPhase;
 
 /**
  * @author vicky.thakor
@@ -24,14 +24,54 @@ import com.openxcell.util.StringUtils;
  * @change provide {@link SpreadSheetTemplate} to {@link SpreadSheetManager} for wrap text and summation
  * @author vicky.thakor
  * @since 2018-06-01
+ * 
+ * @change evaluate rows using {@link SpreadSheetRowEvaluator}, optionally in parallel
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change write values of {@link SpreadSheetMultiValue} in following rows
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change write exploded rows of collections, see {@link SpreadSheetTemplatePlan.Explode}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change evaluation/render time and cache stats for {@link ExportMetricsListener}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change `count` continues from objects of previous shard, see {@link SpreadSheetShardedWriter}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change time spent in iterator reported as {@link ExportPhase#SOURCE}
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetBeanManager extends SpreadSheetManager {
-	private static Logger logger = Logger.getLogger(SpreadSheetBeanManager.class.getName());
 	private SpreadSheetTemplate sheetTemplate;
 	private SpreadSheetBeanUtil beanUtil;
 
-	private boolean isExtendedReplace = false;
-	private Map<String, Object> mapExtendedReplaceProperties = new HashMap<String, Object>(0);
+	private boolean headerProcessed = false;
+	/* number of objects processed, value of `count` property */
+	private int rowCount = 0;
+
+	private SpreadSheetRowEvaluator rowEvaluator;
+
+	/* parallel evaluation */
+	private Executor parallelExecutor;
+	private int parallelChunkSize;
+	private int parallelism = 1;
+
+	/* lock held while rendering rows in workbook shared with other datasets */
+	private Object renderLock;
+	private static final int RENDER_CHUNK_SIZE = 256;
+
+	/* metrics, measured only when metrics are enabled */
+	private long processNanos = 0;
+	private long renderNanos = 0;
+	private long sourceNanos = 0;
 
 	public SpreadSheetBeanManager(SpreadSheetTemplate sheetTemplate) {
 		this.sheetTemplate = sheetTemplate;
@@ -41,12 +81,105 @@ public class SpreadSheetBeanManager extends SpreadSheetManager {
 		init();
 	}
 
+	/**
+	 * Write template in workbook shared with other datasets, rows are rendered
+	 * while holding lock on workbook.
+	 * 
+	 * @param sheetTemplate
+	 * @param workbook
+	 * @param sheetName
+	 * @param styleRegistry
+	 */
+	SpreadSheetBeanManager(SpreadSheetTemplate sheetTemplate, SXSSFWorkbook workbook, String sheetName,
+			SpreadSheetStyleRegistry styleRegistry) {
+		this.sheetTemplate = sheetTemplate;
+		this.renderLock = workbook;
+		buildWorkbook(sheetTemplate, workbook, sheetName, styleRegistry);
+		freezeHeader();
+		boldHeader();
+		init();
+	}
+
 	private void init() {
 		beanUtil = new SpreadSheetBeanUtil();
 		beanUtil.usingExcelManager(this);
+		rowEvaluator = new SpreadSheetRowEvaluator(sheetTemplate, beanUtil);
+	}
+
+	/**
+	 * Replace cache used to hold properties of objects while evaluating rows.
+	 * Default is {@link BeanPropertyCache#lru(int)} of
+	 * {@link BeanPropertyCache#DEFAULT_MAXIMUM_SIZE} objects.
+	 * 
+	 * @param beanPropertyCache
+	 */
+	public void setBeanPropertyCache(BeanPropertyCache beanPropertyCache) {
+		beanUtil.setBeanPropertyCache(beanPropertyCache);
+	}
+
+	/**
+	 * @return cache with hit/miss/eviction stats
+	 */
+	public BeanPropertyCache getBeanPropertyCache() {
+		return beanUtil.getBeanPropertyCache();
 	}
 
 	public boolean process(List<?> listData) {
+		return process(Objects.nonNull(listData) ? listData.iterator() : null);
+	}
+
+	/**
+	 * Process data row by row as it's consumed from iterator, data is never
+	 * collected in memory. i.e: Iterator over database cursor or scrolled result
+	 * set.
+	 * 
+	 * @param iterator
+	 * @return
+	 */
+	public boolean process(Iterator<?> iterator) {
+		processHeader();
+		processRows(iterator);
+		return true;
+	}
+
+	/**
+	 * Open session to write data in batches (i.e: pages of keyset pagination).
+	 * Header, sheet change and summation state is preserved between batches.
+	 * Rows are streamed with
+	 * {@link SpreadSheetWriter#DEFAULT_STREAM_MEMORY_BUDGET} unless stream is
+	 * configured before session is opened.
+	 * 
+	 * @return
+	 */
+	public <T> SpreadSheetSession<T> openSession() {
+		if (!isStreamConfigured()) {
+			setStreamMemoryBudget(SpreadSheetWriter.DEFAULT_STREAM_MEMORY_BUDGET);
+		}
+		processHeader();
+		return new SpreadSheetSession<>(this);
+	}
+
+	/**
+	 * Start `count` property after given number of objects, i.e: objects written
+	 * in previous shards.
+	 * 
+	 * @param rowCount
+	 */
+	void setRowCountOffset(int rowCount) {
+		if (this.rowCount > 0) {
+			throw new RuntimeException("Row count offset must be set before processing rows");
+		}
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * Add header of template, only once.
+	 */
+	void processHeader() {
+		if (headerProcessed) {
+			return;
+		}
+		headerProcessed = true;
 		headerTextColor();
 		headerBackgroundColor();
 
@@ -55,75 +188,229 @@ public class SpreadSheetBeanManager extends SpreadSheetManager {
 				addHeader(sheetTemplate.getHeader().optString(i).trim());
 			}
 		}
+	}
 
-		if (Objects.nonNull(sheetTemplate.getProperties()) && Objects.nonNull(listData)) {
-			int columnCount = 0;
-			for (Object object : listData) {
-				isExtendedReplace = false;
-				columnCount++;
-				newRow();
-				Map<Integer, String[]> collectionDataCache = new HashMap<>();
-				
-				for (int i = 0; i < sheetTemplate.getProperties().length(); i++) {
-					String columnProperty = sheetTemplate.getProperties().optString(i).trim();
-
-					if (Objects.nonNull(columnProperty) && !columnProperty.isEmpty()) {
-						if ("count".equalsIgnoreCase(columnProperty)) {
-							addValueCell(columnCount);
-						} else {
-							try {
-								Object columnValue;
-								if (isExtendedReplace && mapExtendedReplaceProperties.containsKey(columnProperty)) {
-									columnValue = mapExtendedReplaceProperties.get(columnProperty);
-								} else {
-									beanUtil.setOriginalColumnProperty(columnProperty);
-									columnValue = beanUtil.evaluateColumnValueRecursive(columnProperty, object);
-									columnValue = Objects.nonNull(columnValue) ? columnValue : "";
-									processExtendedReplace(columnProperty, columnValue);
-								}
-
-								if (!"#ColumnValue".equalsIgnoreCase(String.valueOf(columnValue))) {
-									if(columnValue instanceof String[]) {
-										String[] values = (String[])columnValue;
-										addValueCell(values[0]);
-										collectionDataCache.put(i, values);
-									}else {
-										addValueCell(columnValue);
-									}
-								}
-							} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
-									| NoSuchMethodException | SecurityException | JSONException e) {
-								logger.log(Level.SEVERE, e.getMessage(), e);
-							}
-						}
+	/**
+	 * Add row for each object of iterator.
+	 * 
+	 * @param iterator
+	 */
+	void processRows(Iterator<?> iterator) {
+		if (isMetricsEnabled()) {
+			long start = System.nanoTime();
+			doProcessRows(Objects.nonNull(iterator) ? new SourceIterator<>(iterator) : null);
+			processNanos += System.nanoTime() - start;
+		} else {
+			doProcessRows(iterator);
+		}
+	}
+
+	private void doProcessRows(Iterator<?> iterator) {
+		if (Objects.nonNull(sheetTemplate.getProperties()) && Objects.nonNull(iterator)) {
+			if (Objects.nonNull(parallelExecutor)) {
+				processRowsParallel(iterator);
+			} else if (Objects.nonNull(renderLock)) {
+				List<Object[]> chunk = new ArrayList<>(RENDER_CHUNK_SIZE);
+				while (iterator.hasNext()) {
+					rowEvaluator.evaluate(iterator.next(), ++rowCount, values -> chunk.add(rowEvaluator.keep(values)));
+					if (chunk.size() >= RENDER_CHUNK_SIZE || !iterator.hasNext()) {
+						renderRows(chunk);
+						chunk.clear();
 					}
 				}
-				
-				if(CollectionUtils.nonNullNonEmptyMap(collectionDataCache)) {
-					AtomicInteger newRowCount = new AtomicInteger(0);
-					for(String[] values : collectionDataCache.values()) {
-						/* length - 1 => 1st element from array is added in first iteration */
-						int arraylength = values.length - 1;
-						if(newRowCount.get() < arraylength) {
-							newRowCount.set(arraylength);
-						}
+			} else {
+				while (iterator.hasNext()) {
+					Object object = iterator.next();
+					rowEvaluator.evaluate(object, ++rowCount, this::renderRow);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evaluate rows in chunks on {@link #parallelExecutor} and render them in
+	 * order on current thread. Next chunk is evaluated while current chunk is
+	 * rendered.
+	 * 
+	 * @param iterator
+	 */
+	private void processRowsParallel(Iterator<?> iterator) {
+		CompletableFuture<List<Object[]>> pendingChunk = null;
+		while (true) {
+			List<Object> chunk = new ArrayList<>(parallelChunkSize);
+			while (chunk.size() < parallelChunkSize && iterator.hasNext()) {
+				chunk.add(iterator.next());
+			}
+
+			CompletableFuture<List<Object[]>> nextChunk = null;
+			if (!chunk.isEmpty()) {
+				nextChunk = evaluateAsync(chunk, rowCount);
+				rowCount += chunk.size();
+			}
+
+			if (Objects.nonNull(pendingChunk)) {
+				renderRows(pendingChunk.join());
+			}
+
+			if (Objects.isNull(nextChunk)) {
+				break;
+			}
+			pendingChunk = nextChunk;
+		}
+	}
+
+	/**
+	 * Split chunk in slices, each slice is evaluated by its own
+	 * {@link SpreadSheetRowEvaluator} on {@link #parallelExecutor}.
+	 * 
+	 * @param chunk
+	 * @param rowOffset
+	 *            - `count` of row before first object of chunk
+	 * @return values of rows in same order as chunk
+	 */
+	private CompletableFuture<List<Object[]>> evaluateAsync(List<Object> chunk, int rowOffset) {
+		int sliceSize = Math.max(1, (chunk.size() + parallelism - 1) / parallelism);
+		List<CompletableFuture<List<Object[]>>> slices = new ArrayList<>();
+		for (int from = 0; from < chunk.size(); from += sliceSize) {
+			List<Object> slice = chunk.subList(from, Math.min(chunk.size(), from + sliceSize));
+			int sliceOffset = rowOffset + from;
+			slices.add(CompletableFuture.supplyAsync(() -> {
+				SpreadSheetRowEvaluator evaluator = new SpreadSheetRowEvaluator(sheetTemplate);
+				evaluator.setBeanPropertyCache(getBeanPropertyCache().emptyCopy());
+				List<Object[]> values = new ArrayList<>(slice.size());
+				for (int i = 0; i < slice.size(); i++) {
+					evaluator.evaluate(slice.get(i), sliceOffset + i + 1, row -> values.add(evaluator.keep(row)));
+				}
+				synchronized (this) {
+					getBeanPropertyCache().mergeStats(evaluator.getBeanPropertyCache());
+				}
+				return values;
+			}, parallelExecutor));
+		}
+
+		return CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[slices.size()])).thenApply(ignore -> {
+			List<Object[]> rows = new ArrayList<>(chunk.size());
+			for (CompletableFuture<List<Object[]>> slice : slices) {
+				rows.addAll(slice.join());
+			}
+			return rows;
+		});
+	}
+
+	/**
+	 * @param rows
+	 */
+	private void renderRows(List<Object[]> rows) {
+		if (Objects.isNull(renderLock)) {
+			for (Object[] values : rows) {
+				renderRow(values);
+			}
+		} else {
+			synchronized (renderLock) {
+				for (Object[] values : rows) {
+					renderRow(values);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write evaluated values of object in sheet. Values of collection
+	 * ({@link SpreadSheetMultiValue}) are written in following rows.
+	 * 
+	 * @param values
+	 */
+	private void renderRow(Object[] values) {
+		if (isMetricsEnabled()) {
+			long start = System.nanoTime();
+			doRenderRow(values);
+			renderNanos += System.nanoTime() - start;
+		} else {
+			doRenderRow(values);
+		}
+	}
+
+	private void doRenderRow(Object[] values) {
+		newRow();
+		/* created only for row having collection */
+		Map<Integer, SpreadSheetMultiValue> collectionDataCache = null;
+
+		for (int i = 0; i < values.length; i++) {
+			Object columnValue = values[i];
+			if (columnValue != SpreadSheetRowEvaluator.NO_CELL) {
+				if (columnValue instanceof SpreadSheetMultiValue) {
+					SpreadSheetMultiValue multiValue = (SpreadSheetMultiValue) columnValue;
+					addValueCell(multiValue.get(0));
+					if (Objects.isNull(collectionDataCache)) {
+						collectionDataCache = new HashMap<>();
 					}
-					
-					for (int i = 0; i < newRowCount.get(); i++) {
-						newRow();
-						for(Map.Entry<Integer, String[]> entrySet : collectionDataCache.entrySet()) {
-							String[] values = entrySet.getValue();
-							if(values.length > (i+1) && StringUtils.nonNullNotEmpty(values[i+1])) {
-								addValueCell(entrySet.getKey(), values[i+1]);
-							}
-						}
+					collectionDataCache.put(i, multiValue);
+				} else {
+					addValueCell(columnValue);
+				}
+			}
+		}
+
+		if (CollectionUtils.nonNullNonEmptyMap(collectionDataCache)) {
+			int newRowCount = 0;
+			for (SpreadSheetMultiValue multiValue : collectionDataCache.values()) {
+				/* size - 1 => 1st value is added in first iteration */
+				newRowCount = Math.max(newRowCount, multiValue.size() - 1);
+			}
+
+			for (int i = 0; i < newRowCount; i++) {
+				newRow();
+				for (Map.Entry<Integer, SpreadSheetMultiValue> entrySet : collectionDataCache.entrySet()) {
+					SpreadSheetMultiValue multiValue = entrySet.getValue();
+					if (multiValue.size() > (i + 1)) {
+						addValueCell(entrySet.getKey(), multiValue.get(i + 1));
 					}
 				}
-				
 			}
 		}
+	}
 
-		return true;
+	/**
+	 * Evaluation is time of processing rows not spent in rendering them or
+	 * waiting for objects of iterator, render excludes creation (flush) of rows.
+	 */
+	@Override
+	protected void reportMetrics(ExportMetricsListener metricsListener) {
+		metricsListener.phaseCompleted(ExportPhase.SOURCE, sourceNanos);
+		metricsListener.phaseCompleted(ExportPhase.EVALUATION,
+				Math.max(0, processNanos - renderNanos - sourceNanos));
+		metricsListener.phaseCompleted(ExportPhase.RENDER, Math.max(0, renderNanos - getFlushNanos()));
+		BeanPropertyCache beanPropertyCache = getBeanPropertyCache();
+		metricsListener.cacheStatistics(beanPropertyCache.getHitCount(), beanPropertyCache.getMissCount());
+	}
+
+	/**
+	 * Evaluate rows (bean to values) in parallel on given executor while rows are
+	 * still written to sheet in order by the calling thread. Objects must be safe
+	 * to read from other threads (i.e: detached entities).
+	 * 
+	 * @param executor
+	 *            - i.e: {@link ForkJoinPool#commonPool()}
+	 * @param chunkSize
+	 *            - number of objects evaluated ahead of writer
+	 */
+	public void enableParallel(Executor executor, int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new RuntimeException("Provide chunkSize greater than 0.");
+		}
+		this.parallelExecutor = Objects.requireNonNull(executor, "executor can not be null");
+		this.parallelChunkSize = chunkSize;
+		this.parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+				: Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Evaluate rows in parallel on {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param chunkSize
+	 */
+	public void enableParallel(int chunkSize) {
+		enableParallel(ForkJoinPool.commonPool(), chunkSize);
 	}
 
 	/**
@@ -159,33 +446,33 @@ public class SpreadSheetBeanManager extends SpreadSheetManager {
 	}
 
 	/**
-	 * "ExtendedReplace": { "Item.type": { "value": "Configurable", "replace": [
-	 * {"Item.quantity": ""}, {"Item.threshold": ""} ] } }
-	 *
-	 * @param columnProperty
-	 * @param columnValue
-	 */
-	private void processExtendedReplace(String columnProperty, Object columnValue) {
-		if (Objects.nonNull(sheetTemplate.getExtendedReplace())
-				&& sheetTemplate.getExtendedReplace().has(columnProperty)) {
-			JSONObject extendedReplaceProperties = sheetTemplate.getExtendedReplace().optJSONObject(columnProperty);
-			String extendedReplaceValue = extendedReplaceProperties.optString("value");
-			if (extendedReplaceValue.equals(String.valueOf(columnValue))) {
-				isExtendedReplace = true;
-				JSONArray replaceProperties = extendedReplaceProperties.optJSONArray("replace");
-				if (Objects.nonNull(replaceProperties)) {
-					for (int j = 0; j < replaceProperties.length(); j++) {
-						JSONObject replaceProperty = replaceProperties.optJSONObject(j);
-						if (Objects.nonNull(replaceProperty)) {
-							Iterator<String> keys = replaceProperty.keys();
-							while (keys.hasNext()) {
-								String key = keys.next();
-								String value = replaceProperty.optString(key);
-								mapExtendedReplaceProperties.put(key, value);
-							}
-						}
-					}
-				}
+	 * Iterator measuring time spent in source of data (i.e: fetch of database
+	 * cursor), reported as {@link ExportPhase#SOURCE}.
+	 */
+	private class SourceIterator<E> implements Iterator<E> {
+		private final Iterator<E> iterator;
+
+		SourceIterator(Iterator<E> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			long start = System.nanoTime();
+			try {
+				return iterator.hasNext();
+			} finally {
+				sourceNanos += System.nanoTime() - start;
+			}
+		}
+
+		@Override
+		public E next() {
+			long start = System.nanoTime();
+			try {
+				return iterator.next();
+			} finally {
+				sourceNanos += System.nanoTime() - start;
 			}
 		}
 	}
@@ -1,19 +1,22 @@
 package com.openxcell.writer.spreadsheet;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.json.JSONException;
-import org.json.JSONObject;
 
+import com.openxcell.util.BeanPropertyCache;
 import com.openxcell.util.BeanPropertyHolder;
 import com.openxcell.util.BeanPropertyHolder.DataType;
+import com.openxcell.util.BeanPropertyValueLoader;
+import com.openxcell.util.PropertyPath;
+import com.openxcell.util.PropertyPredicate;
 import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
 
 /**
@@ -23,71 +26,129 @@ import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
  * @change code optimization
  * @author vicky.thakor
  * @since 2018-06-01
+ * 
+ * @change load only properties referenced in template
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change replace and format using compiled template plan
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change evaluate parsed {@link PropertyPath} instead of regular expressions
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change typed filter conditions, see {@link PropertyPredicate}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change values of collection in {@link SpreadSheetMultiValue}
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetBeanUtil {
 	/* Object caching */
-	Map<Object, Map<String, BeanPropertyHolder>> mapObjectCache;
+	private BeanPropertyCache beanPropertyCache;
 
-	String regExMatchPositionValue = "[a-zA-Z]*\\[([0-9]*?)\\]";
+	private SpreadSheetTemplatePlan templatePlan;
 
-	String regExPositionExpression = "\\[([0-9]*?)\\]";
-
-	/**
-	 * Pattern used to get index from String. i.e: We want to access only 2nd index
-	 * of Set<> or List<> then we pass String like follow. Pattern used to get value
-	 * `2` from below String.
-	 * 
-	 * Item.itemPrice[2].priceListId
-	 */
-	Pattern pattern = Pattern.compile(regExPositionExpression);
+	private SpreadSheetManager spreadSheetManager;
 
-	String regExMatchExpressionValue = "[a-zA-Z_]*\\(([a-zA-Z=0-9 \"\';!]*?)\\)";
+	/* Preserve original column (i.e Item.itemStore.store.name) */
+	private SpreadSheetTemplatePlan.Column originalColumn;
 
-	String regExStringExpresions = "\\(([a-zA-Z=0-9 \"\';!_]*?)\\)";
+	public SpreadSheetBeanUtil() {
+		beanPropertyCache = BeanPropertyCache.lru(BeanPropertyCache.DEFAULT_MAXIMUM_SIZE);
+	}
 
 	/**
-	 * Pattern : Pattern used to validate the expression. i.e: We want value only if
-	 * it matches the given expression at last. Only return value when for that
-	 * ItemPrice > priceListId=2
+	 * Replace cache used to hold properties of objects. i.e:
+	 * {@link BeanPropertyCache#rowScoped()}
 	 * 
-	 * Item.itemPrice.value(priceListId=2)
+	 * @param beanPropertyCache
 	 */
-	Pattern patternExpression = Pattern.compile(regExStringExpresions);
-
-	private SpreadSheetTemplate spreadSheetTemplate;
-
-	private SpreadSheetManager spreadSheetManager;
+	public void setBeanPropertyCache(BeanPropertyCache beanPropertyCache) {
+		this.beanPropertyCache = Objects.requireNonNull(beanPropertyCache, "cache can not be null");
+	}
 
-	/* Preserve original column property value (i.e Item.itemStore.store.name) */
-	private String originalColumnProperty;
+	public BeanPropertyCache getBeanPropertyCache() {
+		return beanPropertyCache;
+	}
 
-	public SpreadSheetBeanUtil() {
-		mapObjectCache = new HashMap<>();
+	/**
+	 * Notify object cache that evaluation of new row (bean) is started.
+	 */
+	public void nextRow() {
+		beanPropertyCache.nextRow();
 	}
 
 	public void setOriginalColumnProperty(String originalColumnProperty) {
-		this.originalColumnProperty = originalColumnProperty;
+		this.originalColumn = templatePlan.getColumn(originalColumnProperty);
+	}
+
+	/**
+	 * Same as {@link #setOriginalColumnProperty(String)} without lookup.
+	 * 
+	 * @param originalColumn
+	 */
+	void setOriginalColumn(SpreadSheetTemplatePlan.Column originalColumn) {
+		this.originalColumn = originalColumn;
 	}
 
 	public void usingExcelManager(SpreadSheetManager spreadSheetManager) {
 		this.spreadSheetManager = spreadSheetManager;
-		this.spreadSheetTemplate = spreadSheetManager.getSpreadSheetTemplate();
+		this.templatePlan = spreadSheetManager.getSpreadSheetTemplate().compile();
 	}
 
 	/**
-	 * Evaluate column value recursively. Get nth level child value by performing
-	 * substring upto nth period(`.`).<br/>
+	 * Evaluate values using template only, without access to workbook.
+	 * 
+	 * @param spreadSheetTemplate
+	 */
+	public void usingTemplate(SpreadSheetTemplate spreadSheetTemplate) {
+		this.templatePlan = spreadSheetTemplate.compile();
+	}
+
+	/**
+	 * Evaluate value of given property path.
+	 * 
+	 * @param columnProperty
+	 *            - i.e: Item.itemWarehouse.warehouseName
+	 * @param object
+	 *            - root object (`Item`)
+	 * @return
+	 * @throws IllegalAccessException
+	 * @throws IllegalArgumentException
+	 * @throws InvocationTargetException
+	 * @throws NoSuchMethodException
+	 * @throws SecurityException
+	 * @throws JSONException
+	 * @see #evaluateColumnValue(PropertyPath, Object)
+	 */
+	public Object evaluateColumnValueRecursive(String columnProperty, Object object)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException,
+			SecurityException, JSONException {
+		if (columnProperty == null || columnProperty.trim().isEmpty()) {
+			return "";
+		}
+		return evaluateColumnValue(PropertyPath.parse(columnProperty.trim()), object);
+	}
+
+	/**
+	 * Evaluate column value by walking segments of parsed path, nth segment is
+	 * evaluated on value of (n-1)th segment.<br/>
 	 * <br/>
-	 * Example:
+	 * Example: Item.itemWarehouse.warehouseName
 	 * <ul>
-	 * <li>Item.itemWarehouse.warehouseName</li>
-	 * <li>itemWarehouse.warehouseName</li>
-	 * <li>warehouseName</li>
+	 * <li>Item => object</li>
+	 * <li>itemWarehouse => property of object</li>
+	 * <li>warehouseName => property of itemWarehouse</li>
 	 * </ul>
 	 * 
 	 * @author vicky.thakor
 	 * @date 15th April, 2015
-	 * @param columnProperty
+	 * @param propertyPath
 	 * @param object
 	 * @return
 	 * @throws IllegalAccessException
@@ -97,7 +158,13 @@ public class SpreadSheetBeanUtil {
 	 * @throws SecurityException
 	 * @throws JSONException
 	 */
-	public Object evaluateColumnValueRecursive(String columnProperty, Object object)
+	public Object evaluateColumnValue(PropertyPath propertyPath, Object object)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException,
+			SecurityException, JSONException {
+		return evaluateSegment(propertyPath, 0, object);
+	}
+
+	private Object evaluateSegment(PropertyPath propertyPath, int depth, Object object)
 			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException,
 			SecurityException, JSONException {
 		/* Where dealing with collection of data */
@@ -105,268 +172,93 @@ public class SpreadSheetBeanUtil {
 		/* Default value of column when no value found */
 		Object columnValue = "";
 
-		/* Get Map<"column_name", ConfiguredColumn> */
-		Map<String, BeanPropertyHolder> mapConfiguredColumn = new HashMap<>();
+		if (object != null && depth < propertyPath.size()) {
+			PropertyPath.Segment segment = propertyPath.getSegment(depth);
 
-		if (columnProperty != null && !columnProperty.isEmpty() && object != null) {
-			/* Check if period (`.`) exists in String or not */
-			int indexOfExistPeriod = columnProperty.indexOf(".");
-
-			if (indexOfExistPeriod > 0) {
-				/**
-				 * Split Object and Column name in Array i.e: Item.itemWarehouse.warehouseName
-				 * -> [Item, itemWarehouse, warehouseName]
-				 */
-				String[] arrayProperties = columnProperty.split("\\.");
-				/**
-				 * SubString `strProperty` i.e: Item.itemWarehouse.warehouseName
-				 * itemWarehouse.warehouseName warehouseName
-				 */
-				columnProperty = columnProperty.substring(indexOfExistPeriod + 1, columnProperty.length());
-				/**
-				 * Caching mechanism Reflection is bit costly in java so we created Map<Integer,
-				 * Map<String, ConfiguredColumn>> to hold the objects previously loaded by
-				 * reflection.
-				 * 
-				 * Example: "Item.sku","Item.name" Here we are accessing two properties of same
-				 * object so when `Item` object loaded by reflection for `Item.sku` we store it
-				 * in Map. Now when we want to access `Item.name` first check that object is
-				 * available in Map or not if its available we don't need to perform reflection.
-				 */
-				try {
-					/* @since 2016-11-18 mapObjectCache => mapKey changed from hashKey to object */
-					if (object != null && mapObjectCache.containsKey(object)) {
-						mapConfiguredColumn = mapObjectCache.get(object);
-					} else {
-						mapConfiguredColumn = new BeanPropertyHolder().makeReflactionCall(object);
-						// if(object.hashCode() != 0){
-						mapObjectCache.put(object, mapConfiguredColumn);
-						// }
-					}
-				} catch (Exception e) {
-					e.printStackTrace();
-					columnValue = "#Error";
-				}
+			/* Get object of ConfiguredColumn from mapConfiguredColumn */
+			BeanPropertyHolder objConfiguredColumn = getBeanProperty(object, segment.getName());
+			if (objConfiguredColumn != null) {
 				/**
-				 * We are attaching expressions in String to get the specific value from SET<>
-				 * or LIST<> so we are replacing expression with blank to get original column
-				 * name.
-				 * 
-				 * .replaceAll("\\[[0-9]*\\]", "") for `Pattern 1` .replaceAll("\\([a-zA-Z=0-9
-				 * \"\';]*\\)", "") for `Pattern 2`
-				 * ========================================================== Pattern 1: Pattern
-				 * used to get index from String. i.e: We want to access only 2nd index of Set<>
-				 * or List<> then we pass String like follow. Pattern used to get value `2` from
-				 * below String.
-				 * 
-				 * Item.itemPrice[2].priceListId
-				 * ========================================================== Pattern 2: Pattern
-				 * used to validate the expression. i.e: We want value only if it matches the
-				 * given expression at last. Only return value when for that ItemPrice =>
-				 * priceListId=2
-				 * 
-				 * Item.itemPrice.value(priceListId=2)
+				 * Based on type of column perform operations. i.e: - For Set and List, loop the
+				 * Objects. - For Integer, String, Date, etc... return the value.
 				 */
-				String configuredColumnName = arrayProperties[1].replaceAll(regExPositionExpression, "")
-						.replaceAll(regExStringExpresions, "");
-
-				/* Get object of ConfiguredColumn from mapConfiguredColumn */
-				BeanPropertyHolder objConfiguredColumn = mapConfiguredColumn.get(configuredColumnName);
-				if (objConfiguredColumn != null) {
-					/**
-					 * Based on type of column perform operations. i.e: - For Set and List, loop the
-					 * Objects. - For Integer, String, Date, etc... return the value.
-					 */
-					if (DataType.SET == objConfiguredColumn.getDataType()) {
-						@SuppressWarnings("unchecked")
-						Set<Object> setObject = (Set<Object>) objConfiguredColumn.getValue();
-						if (setObject != null && !setObject.isEmpty()) {
-							/**
-							 * Case: When Set<> contains one Object return the value
-							 * 
-							 * Case: When Set<> contains more than one Object return value in following
-							 * format: {value1; value2; ...}
-							 */
-							if (setObject.size() == 1) {
-								for (Object getObject : setObject) {
-									columnName = collectionDataHeader(columnProperty, getObject);
-									columnValue = evaluateColumnValueRecursive(columnProperty, getObject);
+				if (DataType.SET == objConfiguredColumn.getDataType()) {
+					@SuppressWarnings("unchecked")
+					Set<Object> setObject = (Set<Object>) objConfiguredColumn.getValue();
+					if (setObject != null && !setObject.isEmpty()) {
+						/**
+						 * Case: When Set<> contains one Object return the value
+						 * 
+						 * Case: When Set<> contains more than one Object return value of all
+						 * objects, or only value of nth object i.e: Item.itemPrice[2].priceListId
+						 */
+						if (setObject.size() == 1) {
+							for (Object getObject : setObject) {
+								columnName = collectionDataHeader(propertyPath, getObject);
+								columnValue = evaluateSegment(propertyPath, depth + 1, getObject);
 
-									/* Multi-Warehouse changes 28/03/2016 */
-									columnValue = collectionColumnNameColumnValue(columnName, columnValue);
-								}
-							} else if (arrayProperties.length > 2
-									&& arrayProperties[1].matches(regExMatchPositionValue)) {
-								int indexPosition = 0;
-								String expressionValue = getExpressionBody(pattern, arrayProperties[1]);
-								if (expressionValue != null && !expressionValue.isEmpty()) {
-									indexPosition = Integer.valueOf(expressionValue);
-								}
-								indexPosition = indexPosition != 0 ? indexPosition - 1 : indexPosition;
-								int setCount = 0;
-								for (Object getObject : setObject) {
-									if (setCount == indexPosition) {
-										columnName = collectionDataHeader(columnProperty, getObject);
-										columnValue = evaluateColumnValueRecursive(columnProperty, getObject);
-
-										/* Multi-Warehouse changes 28/03/2016 */
-										columnValue = collectionColumnNameColumnValue(columnName, columnValue);
-									}
-									setCount++;
-								}
-							} else {
-								Object returnValue = null;
-								for (Object getObject : setObject) {
-									columnName = collectionDataHeader(columnProperty, getObject);
-									returnValue = evaluateColumnValueRecursive(columnProperty, getObject);
+								/* Multi-Warehouse changes 28/03/2016 */
+								columnValue = collectionColumnNameColumnValue(columnName, columnValue);
+							}
+						} else if (segment.hasIndex() && !segment.isLast()) {
+							int setCount = 0;
+							for (Object getObject : setObject) {
+								if (setCount == segment.getIndex()) {
+									columnName = collectionDataHeader(propertyPath, getObject);
+									columnValue = evaluateSegment(propertyPath, depth + 1, getObject);
 
 									/* Multi-Warehouse changes 28/03/2016 */
-									returnValue = collectionColumnNameColumnValue(columnName, returnValue);
-
-									if (returnValue != null && !String.valueOf(returnValue).isEmpty()) {
-										if (!"#ColumnValue".equalsIgnoreCase(String.valueOf(returnValue))) {
-											columnValue += String.valueOf(returnValue) + ";";
-										} else {
-											columnValue = returnValue;
-										}
-									}
-								}
-								/**
-								 * When we get multiple values from Set<?> then add `{....}`
-								 */
-								int semicolonCount = countCharacters(String.valueOf(columnValue), ';');
-								if (columnValue != null && !String.valueOf(columnValue).isEmpty()
-										&& semicolonCount > 1) {
-//									columnValue = "{" + columnValue + "}";
-									columnValue = String.valueOf(columnValue).split(";");
-								} else if (semicolonCount == 1) {
-									columnValue = String.valueOf(columnValue).replace("; ", "");
+									columnValue = collectionColumnNameColumnValue(columnName, columnValue);
 								}
+								setCount++;
 							}
+						} else {
+							columnValue = evaluateCollection(propertyPath, depth, setObject);
 						}
-					} else if (DataType.LIST == objConfiguredColumn.getDataType()) {
-						@SuppressWarnings("unchecked")
-						List<Object> listObject = (List<Object>) objConfiguredColumn.getValue();
-						if (listObject != null && !listObject.isEmpty()) {
-							/**
-							 * Case: When List<> contains one Object return the value
-							 * 
-							 * Case: When List<> contains more than one Object return value in following
-							 * format: {value1; value2; ...}
-							 */
-							if (listObject.size() == 1) {
-								columnName = collectionDataHeader(columnProperty, listObject.get(0));
-								columnValue = evaluateColumnValueRecursive(columnProperty, listObject.get(0));
-
-								/* Multi-Warehouse changes 28/03/2016 */
-								columnValue = collectionColumnNameColumnValue(columnName, columnValue);
-							} else if (arrayProperties.length > 1
-									&& arrayProperties[1].matches(regExMatchPositionValue)) {
-								int indexPosition = 0;
-								String expressionValue = getExpressionBody(pattern, arrayProperties[1]);
-								if (expressionValue != null && !expressionValue.isEmpty()) {
-									indexPosition = Integer.valueOf(expressionValue);
-								}
-								indexPosition = indexPosition != 0 ? indexPosition - 1 : indexPosition;
-
-								columnName = collectionDataHeader(columnProperty, listObject.get(indexPosition));
-								columnValue = evaluateColumnValueRecursive(columnProperty,
-										listObject.get(indexPosition));
+					}
+				} else if (DataType.LIST == objConfiguredColumn.getDataType()) {
+					@SuppressWarnings("unchecked")
+					List<Object> listObject = (List<Object>) objConfiguredColumn.getValue();
+					if (listObject != null && !listObject.isEmpty()) {
+						/**
+						 * Case: When List<> contains one Object return the value
+						 * 
+						 * Case: When List<> contains more than one Object return value of all
+						 * objects, or only value of nth object i.e: Item.itemPrice[2].priceListId
+						 */
+						if (listObject.size() == 1) {
+							columnName = collectionDataHeader(propertyPath, listObject.get(0));
+							columnValue = evaluateSegment(propertyPath, depth + 1, listObject.get(0));
+
+							/* Multi-Warehouse changes 28/03/2016 */
+							columnValue = collectionColumnNameColumnValue(columnName, columnValue);
+						} else if (segment.hasIndex()) {
+							if (segment.getIndex() < listObject.size()) {
+								Object getObject = listObject.get(segment.getIndex());
+								columnName = collectionDataHeader(propertyPath, getObject);
+								columnValue = evaluateSegment(propertyPath, depth + 1, getObject);
 
 								/* Multi-Warehouse changes 28/03/2016 */
 								columnValue = collectionColumnNameColumnValue(columnName, columnValue);
-							} else {
-								Object returnValue = null;
-								for (Object getObject : listObject) {
-									columnName = collectionDataHeader(columnProperty, getObject);
-									returnValue = evaluateColumnValueRecursive(columnProperty, getObject);
-
-									/* Multi-Warehouse changes 28/03/2016 */
-									returnValue = collectionColumnNameColumnValue(columnName, returnValue);
-
-									if (returnValue != null && !String.valueOf(returnValue).isEmpty()) {
-										if (!"#ColumnValue".equalsIgnoreCase(String.valueOf(returnValue))) {
-											columnValue += String.valueOf(returnValue) + ";";
-										} else {
-											columnValue = returnValue;
-										}
-									}
-								}
-								/**
-								 * When we get multiple values from List<?> then add `{....}`
-								 */
-								int semicolonCount = countCharacters(String.valueOf(columnValue), ';');
-								if (columnValue != null && !String.valueOf(columnValue).isEmpty()
-										&& semicolonCount > 1) {
-//									columnValue = "{" + columnValue + "}";
-									columnValue = String.valueOf(columnValue).split(";");
-								} else if (semicolonCount == 1) {
-									columnValue = String.valueOf(columnValue).replace("; ", "");
-								}
-							}
-						}
-					} else if (DataType.OBJECT == objConfiguredColumn.getDataType()) {
-						columnValue = evaluateColumnValueRecursive(columnProperty,
-								objConfiguredColumn.getValue());
-					} else {
-						if (columnProperty.matches(regExMatchExpressionValue)) {
-							boolean expressionCriteriaMatched = true;
-							String expressionValue = getExpressionBody(patternExpression, columnProperty);
-							/**
-							 * batchExpression: priceListId=2;status!="Active" Reference:
-							 * com.org.openxcell.report > InventoryStatus.json
-							 */
-							String[] batchExpression = expressionValue.split(";");
-							for (String expression : batchExpression) {
-								String[] validationExpression = null;
-								BeanPropertyHolder configuredColumnExpression;
-								String operationType = "";
-
-								if (expression.contains("!=")) {
-									validationExpression = expression.split("!=");
-									operationType = "NOT_EQUAL";
-								} else if (expression.contains("=")) {
-									validationExpression = expression.split("=");
-									operationType = "EQUAL";
-								}
-								if (validationExpression != null && validationExpression.length == 2) {
-									configuredColumnExpression = mapConfiguredColumn.get(validationExpression[0]);
-									if (configuredColumnExpression != null) {
-										if (DataType.INTEGER == configuredColumnExpression.getDataType()) {
-											if ("EQUAL".equals(operationType) && !(Integer
-													.valueOf(
-															String.valueOf(configuredColumnExpression.getValue()))
-													.equals(Integer.valueOf(validationExpression[1])))) {
-												expressionCriteriaMatched = false;
-											} else if ("NOT_EQUAL".equals(operationType) && !(Integer.valueOf(String
-													.valueOf(configuredColumnExpression.getValue())) != Integer
-															.valueOf(validationExpression[1]))) {
-												expressionCriteriaMatched = false;
-											}
-										} else if (DataType.TEXT == configuredColumnExpression.getDataType()) {
-											if ("EQUAL".equals(operationType)
-													&& !(String.valueOf(configuredColumnExpression.getValue())
-															.equals(validationExpression[1]))) {
-												expressionCriteriaMatched = false;
-											} else if ("EQUAL".equals(operationType)
-													&& (String.valueOf(configuredColumnExpression.getValue())
-															.equals(validationExpression[1]))) {
-												expressionCriteriaMatched = false;
-											}
-										}
-									}
-								}
-							}
-							if (expressionCriteriaMatched) {
-								columnValue = objConfiguredColumn.getValue();
 							}
 						} else {
-							columnValue = objConfiguredColumn.getValue();
+							columnValue = evaluateCollection(propertyPath, depth, listObject);
 						}
 					}
+				} else if (DataType.OBJECT == objConfiguredColumn.getDataType()) {
+					columnValue = evaluateSegment(propertyPath, depth + 1, objConfiguredColumn.getValue());
+				} else if (segment.hasFilter()) {
+					if (matches(segment.getFilter(), object)) {
+						columnValue = objConfiguredColumn.getValue();
+					}
+				} else {
+					columnValue = objConfiguredColumn.getValue();
+				}
 
-					columnValue = doReplace(originalColumnProperty, columnValue);
-					columnValue = doFormat(originalColumnProperty, columnValue);
+				if (!(columnValue instanceof SpreadSheetMultiValue)) {
+					/* values of collection are already replaced and formatted */
+					columnValue = doReplace(originalColumn, columnValue);
+					columnValue = doFormat(originalColumn, columnValue);
 				}
 			}
 		}
@@ -374,47 +266,150 @@ public class SpreadSheetBeanUtil {
 	}
 
 	/**
-	 * Get body part of given expression.<br/>
-	 * Example:<br/>
-	 * <b>1</b>. itemPrice[2] -> {Match `[Number]` Expression} -> return `2`<br/>
-	 * <b>2</b>. value(priceListId=2) -> {Match `(property=value)` expression} ->
-	 * return `priceListId=2` <br/>
-	 * <br/>
+	 * Get elements of collection at given path, collections found on the way are
+	 * flattened. i.e: `Item.lines.lots` => lots of all lines of item.
 	 * 
-	 * @author vicky.thakor
-	 * @param matchPattern
-	 * @param str
-	 * @return
+	 * @param propertyPath
+	 * @param object
+	 * @return elements of collection, single value when property is not
+	 *         collection
 	 */
-	private String getExpressionBody(Pattern matchPattern, String str) {
-		String strBody = "";
-		Matcher matcher = matchPattern.matcher(str);
-		if (matcher.find()) {
-			strBody = matcher.group(1);
+	Collection<?> evaluateElements(PropertyPath propertyPath, Object object) {
+		return evaluateElements(propertyPath, 0, object);
+	}
+
+	private Collection<?> evaluateElements(PropertyPath propertyPath, int depth, Object object) {
+		if (object == null || depth >= propertyPath.size()) {
+			return Collections.emptyList();
 		}
-		return strBody;
+		BeanPropertyHolder beanPropertyHolder = getBeanProperty(object, propertyPath.getSegment(depth).getName());
+		Object value = beanPropertyHolder != null ? beanPropertyHolder.getValue() : null;
+		if (value == null) {
+			return Collections.emptyList();
+		}
+
+		boolean last = depth == propertyPath.size() - 1;
+		if (value instanceof Collection) {
+			if (last) {
+				return (Collection<?>) value;
+			}
+			List<Object> elements = new ArrayList<>();
+			for (Object element : (Collection<?>) value) {
+				elements.addAll(evaluateElements(propertyPath, depth + 1, element));
+			}
+			return elements;
+		}
+		return last ? Collections.singletonList(value) : evaluateElements(propertyPath, depth + 1, value);
 	}
 
 	/**
-	 * Count the occurrences of character in String.<br/>
-	 * <br/>
-	 * .
+	 * Replace and format element of collection which is itself value of column
+	 * (i.e: List&lt;String&gt;), see {@link #setOriginalColumn}.
 	 * 
-	 * @author vicky.thakor
-	 * @param str
-	 * @param character
+	 * @param element
 	 * @return
 	 */
-	private int countCharacters(String str, char character) {
-		int counter = 0;
-		if (str != null && !str.isEmpty()) {
-			for (int i = 0; i < str.length(); i++) {
-				if (str.charAt(i) == character) {
-					counter++;
+	Object evaluateElement(Object element) {
+		return doFormat(originalColumn, doReplace(originalColumn, element));
+	}
+
+	/**
+	 * Evaluate remaining path on each object of collection. Empty values are
+	 * skipped, when more than one value is found values are returned in
+	 * {@link SpreadSheetMultiValue}.
+	 * 
+	 * @param propertyPath
+	 * @param depth
+	 *            - depth of collection segment
+	 * @param collection
+	 * @return value, {@link SpreadSheetMultiValue} or empty string when there is
+	 *         no value
+	 */
+	private Object evaluateCollection(PropertyPath propertyPath, int depth, Collection<Object> collection)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException,
+			SecurityException, JSONException {
+		Object firstValue = null;
+		SpreadSheetMultiValue multiValue = null;
+		for (Object getObject : collection) {
+			String columnName = collectionDataHeader(propertyPath, getObject);
+			Object returnValue = evaluateSegment(propertyPath, depth + 1, getObject);
+
+			/* Multi-Warehouse changes 28/03/2016 */
+			returnValue = collectionColumnNameColumnValue(columnName, returnValue);
+
+			if ("#ColumnValue".equals(returnValue)) {
+				return returnValue;
+			}
+			if (returnValue != null && !"".equals(returnValue)) {
+				if (firstValue == null && multiValue == null
+						&& !(returnValue instanceof SpreadSheetMultiValue)) {
+					firstValue = returnValue;
+				} else {
+					if (multiValue == null) {
+						multiValue = new SpreadSheetMultiValue(collection.size());
+						if (firstValue != null) {
+							multiValue.add(firstValue);
+						}
+					}
+					multiValue.add(returnValue);
 				}
 			}
 		}
-		return counter;
+		if (multiValue != null) {
+			return multiValue;
+		}
+		return firstValue != null ? firstValue : "";
+	}
+
+	/**
+	 * Validate filter of path on object. i.e: Only return value of ItemPrice when
+	 * priceListId=2
+	 * 
+	 * Item.itemPrice.value(priceListId=2)
+	 * 
+	 * Conditions are checked in order and evaluation stops at first condition
+	 * which doesn't match. Condition on property which object doesn't have is
+	 * ignored.
+	 * 
+	 * @param filter
+	 * @param object
+	 * @return
+	 */
+	private boolean matches(PropertyPath.Filter filter, Object object) {
+		for (PropertyPredicate condition : filter.getConditions()) {
+			BeanPropertyHolder configuredColumnExpression = getBeanProperty(object, condition.getProperty());
+			if (configuredColumnExpression != null && !condition.test(configuredColumnExpression.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Caching mechanism Reflection is bit costly in java so we hold the properties
+	 * previously loaded for object.
+	 * 
+	 * Example: "Item.sku","Item.name" Here we are accessing two properties of same
+	 * object. Objects are held in bounded {@link BeanPropertyCache}. Only
+	 * properties referenced in template are loaded (on demand), other
+	 * getters of object are never invoked so entity associations which are not
+	 * part of template are not loaded.
+	 * 
+	 * @param object
+	 * @param property
+	 * @return {@link BeanPropertyHolder} or null when object doesn't have given
+	 *         property
+	 */
+	private BeanPropertyHolder getBeanProperty(Object object, String property) {
+		/* @since 2016-11-18 mapObjectCache => mapKey changed from hashKey to object */
+		Map<String, BeanPropertyHolder> mapConfiguredColumn = beanPropertyCache.get(object);
+
+		BeanPropertyHolder beanPropertyHolder = mapConfiguredColumn.get(property);
+		if (beanPropertyHolder == null && !mapConfiguredColumn.containsKey(property)) {
+			beanPropertyHolder = new BeanPropertyValueLoader(object).getBeanProperty(property);
+			mapConfiguredColumn.put(property, beanPropertyHolder);
+		}
+		return beanPropertyHolder;
 	}
 
 	/**
@@ -426,21 +421,15 @@ public class SpreadSheetBeanUtil {
 	 *
 	 * Reference: com.org.openxcell.report > ShipmentSummary.json
 	 * 
-	 * @param columnProperty
+	 * @param column
 	 * @param columnValue
 	 * @return
 	 */
-	private Object doReplace(String columnProperty, Object columnValue) {
-		if (Objects.nonNull(spreadSheetTemplate.getReplace()) && spreadSheetTemplate.getReplace().has(columnProperty)) {
-			JSONObject replaceValues = spreadSheetTemplate.getReplace().optJSONObject(columnProperty);
-
-			if (replaceValues == null) {
-				/* When calculating value of columnName in collectionDataFormat. */
-				spreadSheetTemplate.getReplace().optJSONObject(columnProperty);
-			}
-
-			if (Objects.nonNull(replaceValues) && replaceValues.has(String.valueOf(columnValue))) {
-				columnValue = replaceValues.opt(String.valueOf(columnValue));
+	private Object doReplace(SpreadSheetTemplatePlan.Column column, Object columnValue) {
+		if (Objects.nonNull(column) && Objects.nonNull(column.getReplace())) {
+			String key = String.valueOf(columnValue);
+			if (column.getReplace().containsKey(key)) {
+				columnValue = column.getReplace().get(key);
 			}
 		}
 		return columnValue;
@@ -449,21 +438,19 @@ public class SpreadSheetBeanUtil {
 	/**
 	 * Change format of value. "formatValue": { "Item.id": "TEXT" }
 	 * 
-	 * @param columnProperty
+	 * @param column
 	 * @param columnValue
 	 * @return
 	 */
-	private Object doFormat(String columnProperty, Object columnValue) {
-		if (!String.valueOf(columnValue).trim().isEmpty()) {
-			if (Objects.nonNull(spreadSheetTemplate.getFormatCellValue()) && spreadSheetTemplate.getFormatCellValue().has(columnProperty)) {
-				String formatType = spreadSheetTemplate.getFormatCellValue().optString(columnProperty);
-				if (ExcelCellType.INTEGER.toString().equalsIgnoreCase(formatType)) {
-					columnValue = Integer.valueOf(String.valueOf(columnValue));
-				} else if (ExcelCellType.FLOAT.toString().equalsIgnoreCase(formatType)) {
-					columnValue = Double.valueOf(String.valueOf(columnValue));
-				} else if (ExcelCellType.TEXT.toString().equalsIgnoreCase(formatType)) {
-					columnValue = String.valueOf(columnValue);
-				}
+	private Object doFormat(SpreadSheetTemplatePlan.Column column, Object columnValue) {
+		if (Objects.nonNull(column) && Objects.nonNull(column.getFormatType())
+				&& !String.valueOf(columnValue).trim().isEmpty()) {
+			if (ExcelCellType.INTEGER == column.getFormatType()) {
+				columnValue = Integer.valueOf(String.valueOf(columnValue));
+			} else if (ExcelCellType.FLOAT == column.getFormatType()) {
+				columnValue = Double.valueOf(String.valueOf(columnValue));
+			} else if (ExcelCellType.TEXT == column.getFormatType()) {
+				columnValue = String.valueOf(columnValue);
 			}
 		}
 		return columnValue;
@@ -476,7 +463,7 @@ public class SpreadSheetBeanUtil {
 	 * @param object
 	 * @return
 	 */
-	private String collectionDataHeader(String columnProperty, Object object) {
+	private String collectionDataHeader(PropertyPath propertyPath, Object object) {
 		String columnName = "#ColumnName";
 //		if (Objects.nonNull(excelCriteria.getCollectionDataFormat())) {
 //			JSONObject collectionDataFormat = excelCriteria.getCollectionDataFormat().optJSONObject(columnProperty);
@@ -515,7 +502,7 @@ public class SpreadSheetBeanUtil {
 	 */
 	private Object collectionColumnNameColumnValue(String columnName, Object columnValue) {
 		/* Multi-Warehouse changes 28/03/2016 */
-		if (!"#ColumnName".equalsIgnoreCase(columnName)) {
+		if (!"#ColumnName".equalsIgnoreCase(columnName) && Objects.nonNull(spreadSheetManager)) {
 			spreadSheetManager.addHeader(columnName);
 			spreadSheetManager.addValueCell(columnName, columnValue);
 			columnValue = "#ColumnValue";
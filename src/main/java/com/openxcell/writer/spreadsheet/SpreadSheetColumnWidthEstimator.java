@@ -0,0 +1,141 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Estimate width of columns from number of characters of values instead of
+ * measuring text with AWT font metrics (see
+ * {@link SpreadSheetManager.AutoSizeMode#ESTIMATE}). Width of column is kept as
+ * number of characters in primitive array and updated as cells are written, no
+ * value or row is kept.<br/>
+ * <br/>
+ * Width rules by type of value:
+ * <ul>
+ * <li>text - length, at most {@link #WRAP_TEXT_WIDTH} in wrap text column</li>
+ * <li>integer - digits and thousand separators of `#,##0`</li>
+ * <li>decimal - digits and thousand separators of `#,##0.00`</li>
+ * <li>date - `m/d/yy`</li>
+ * </ul>
+ * First {@link #SAMPLE_ALL_ROWS} rows of sheet are measured, then every
+ * {@link #SAMPLE_INTERVAL}th row.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetColumnWidthEstimator {
+	static final int SAMPLE_ALL_ROWS = 100;
+	static final int SAMPLE_INTERVAL = 16;
+	/* wrap text column doesn't grow beyond this, text goes on next line */
+	static final int WRAP_TEXT_WIDTH = 50;
+
+	private static final int MAX_WIDTH = 255;
+	/* space around value */
+	private static final int PADDING = 1;
+	/* bold font and filter button of header */
+	private static final int HEADER_PADDING = 3;
+	private static final int DATE_WIDTH = 8;
+
+	/* column index => width in characters */
+	private int[] widths = new int[16];
+	private int lastColumn = -1;
+
+	/**
+	 * @param sheetRowNumber
+	 *            - 0 based row number in sheet
+	 * @return true when cells of row should be measured
+	 */
+	static boolean isSampled(int sheetRowNumber) {
+		return sheetRowNumber <= SAMPLE_ALL_ROWS || sheetRowNumber % SAMPLE_INTERVAL == 0;
+	}
+
+	void measureHeader(int column, String header) {
+		update(column, header.length() + HEADER_PADDING);
+	}
+
+	/**
+	 * @param column
+	 * @param value
+	 *            - value written by its type, see
+	 *            {@link SpreadSheetUtil#getValueFormat(Object)}
+	 * @param wrapText
+	 */
+	void measure(int column, Object value, boolean wrapText) {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof Integer || value instanceof Long) {
+			measure(column, ((Number) value).longValue());
+		} else if (value instanceof Double || value instanceof Float) {
+			measure(column, ((Number) value).doubleValue());
+		} else if (value instanceof Date) {
+			measureDate(column);
+		} else {
+			int length = value instanceof CharSequence ? ((CharSequence) value).length() : value.toString().length();
+			update(column, wrapText ? Math.min(length, WRAP_TEXT_WIDTH) : length);
+		}
+	}
+
+	void measure(int column, long value) {
+		update(column, groupedWidth(value));
+	}
+
+	void measure(int column, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			/* #NUM!, #DIV/0! */
+			update(column, 7);
+			return;
+		}
+		double integral = Math.abs(value);
+		int width = integral < 1e18 ? groupedWidth((long) integral) : 25;
+		/* sign and `.00` */
+		update(column, width + (value < 0 ? 1 : 0) + 3);
+	}
+
+	void measureDate(int column) {
+		update(column, DATE_WIDTH);
+	}
+
+	/**
+	 * Set width of measured columns in sheet and start measuring next sheet.
+	 *
+	 * @param sheet
+	 */
+	void apply(Sheet sheet) {
+		for (int column = 0; column <= lastColumn; column++) {
+			if (widths[column] > 0) {
+				sheet.setColumnWidth(column, Math.min(MAX_WIDTH, widths[column] + PADDING) * 256);
+			}
+		}
+		Arrays.fill(widths, 0, lastColumn + 1, 0);
+		lastColumn = -1;
+	}
+
+	private void update(int column, int width) {
+		if (column >= widths.length) {
+			widths = Arrays.copyOf(widths, Math.max(column + 1, widths.length * 2));
+		}
+		if (width > widths[column]) {
+			widths[column] = width;
+		}
+		lastColumn = Math.max(lastColumn, column);
+	}
+
+	/**
+	 * @param value
+	 * @return characters of value formatted as `#,##0`
+	 */
+	private static int groupedWidth(long value) {
+		int sign = value < 0 ? 1 : 0;
+		int digits = 1;
+		/* Long.MIN_VALUE stays negative, it has 19 digits */
+		long number = value == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(value);
+		while (number >= 10) {
+			number /= 10;
+			digits++;
+		}
+		return sign + digits + (digits - 1) / 3;
+	}
+}
@@ -0,0 +1,963 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
+
+/**
+ * Rendering engine of {@link SpreadSheetManager} which writes sheet XML
+ * (SpreadsheetML) straight into zip entry of final xlsx file, without POI
+ * row/cell objects, temporary files or copy of sheet at the end.<br/>
+ * <br/>
+ * Markup of row/cell is pre-encoded, numbers and dates are written digit by
+ * digit and text is written inline (no shared string table) so only current
+ * row is kept in memory. Sheets are written one after another and can't be
+ * revisited once next sheet is started, column widths are estimated from header
+ * because `cols` is written before rows.<br/>
+ * <br/>
+ * Not thread-safe.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change primitive number and epoch day cells, kept without boxing
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change formula with cached value, workbook is recalculated on load only for formulas without value
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetDirectEngine implements Closeable {
+	private static final String NS_MAIN = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+	private static final String NS_RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+	private static final String NS_PACKAGE_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+	private static final String COMMENT_AUTHOR = "Orderhive";
+
+	private static final long MILLIS_PER_DAY = 86400000L;
+
+	private static final byte[] ROW_START = ascii("<row r=\"");
+	private static final byte[] ROW_END = ascii("</row>");
+	private static final byte[] CELL_START = ascii("<c r=\"");
+	private static final byte[] CELL_STYLE = ascii("\" s=\"");
+	private static final byte[] CELL_INLINE_STRING = ascii("\" t=\"inlineStr\"><is><t>");
+	private static final byte[] CELL_INLINE_STRING_PRESERVE = ascii("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+	private static final byte[] CELL_INLINE_STRING_END = ascii("</t></is></c>");
+	private static final byte[] CELL_VALUE = ascii("\"><v>");
+	private static final byte[] CELL_VALUE_END = ascii("</v></c>");
+	private static final byte[] CELL_ERROR = ascii("\" t=\"e\"><v>");
+	private static final byte[] CELL_FORMULA = ascii("\"><f>");
+	private static final byte[] CELL_FORMULA_END = ascii("</f></c>");
+	private static final byte[] CELL_FORMULA_VALUE = ascii("</f><v>");
+	private static final byte[] TAG_CLOSE = ascii("\">");
+	private static final byte[] SHEET_DATA_END = ascii("</sheetData>");
+	private static final byte[] LEGACY_DRAWING = ascii("<legacyDrawing r:id=\"rId1\"/>");
+	private static final byte[] WORKSHEET_END = ascii("</worksheet>");
+
+	private static final byte KIND_EMPTY = 0;
+	private static final byte KIND_TEXT = 1;
+	private static final byte KIND_NUMBER = 2;
+	private static final byte KIND_DATE = 3;
+	private static final byte KIND_FORMULA = 4;
+	/* primitive values kept in `numbers` */
+	private static final byte KIND_LONG = 5;
+	private static final byte KIND_DOUBLE = 6;
+	private static final byte KIND_EPOCH_DAY = 7;
+	/* formula in `values`, its cached value in `numbers` */
+	private static final byte KIND_FORMULA_VALUE = 8;
+
+	private final ZipOutputStream zipOutputStream;
+	private final byte[] buffer = new byte[1 << 16];
+	private int position = 0;
+	private final StringBuilder numberBuilder = new StringBuilder(32);
+	private final List<byte[]> columnNames = new ArrayList<>();
+	private final TimeZone timeZone = TimeZone.getDefault();
+
+	/* styles */
+	private final List<String> fonts = new ArrayList<>();
+	private final List<String> fills = new ArrayList<>();
+	private final List<String> cellXfs = new ArrayList<>();
+	private final Map<String, Integer> mapFonts = new HashMap<>();
+	private final Map<String, Integer> mapFills = new HashMap<>();
+	private final Map<String, Integer> mapHeaderStyles = new HashMap<>();
+	/* [ExcelCellType.ordinal()][wrapText ? 1 : 0] */
+	private final int[][] dataCellStyles;
+
+	/* sheets */
+	private final List<String> sheetNames = new ArrayList<>();
+	private final List<Integer> commentSheets = new ArrayList<>();
+	/* whether any formula is written without value, see #workbook() */
+	private boolean formulaWithoutValue = false;
+	private boolean sheetOpen = false;
+	private boolean sheetDataStarted = false;
+	private boolean freezeHeader = false;
+	private int[] headerWidths = new int[16];
+	private List<Object[]> comments = new ArrayList<>();
+
+	/* current row */
+	private int rowNumber = -1;
+	private int lastColumn = -1;
+	private Object[] values = new Object[16];
+	/* long, raw bits of double or epoch day, see kinds */
+	private long[] numbers = new long[16];
+	private int[] styles = new int[16];
+	private byte[] kinds = new byte[16];
+
+	private boolean closed = false;
+
+	SpreadSheetDirectEngine(OutputStream outputStream) {
+		Objects.requireNonNull(outputStream, "output stream can not be null");
+		zipOutputStream = new ZipOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+		/* sheet XML is highly repetitive, fastest level already compresses it well */
+		zipOutputStream.setLevel(Deflater.BEST_SPEED);
+
+		fonts.add("<font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font>");
+		fills.add("<fill><patternFill patternType=\"none\"/></fill>");
+		fills.add("<fill><patternFill patternType=\"gray125\"/></fill>");
+		cellXfs.add("<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>");
+
+		ExcelCellType[] excelCellTypes = ExcelCellType.values();
+		dataCellStyles = new int[excelCellTypes.length][2];
+		for (ExcelCellType excelCellType : excelCellTypes) {
+			dataCellStyles[excelCellType.ordinal()][0] = addDataCellStyle(getNumberFormat(excelCellType), false);
+			dataCellStyles[excelCellType.ordinal()][1] = addDataCellStyle(getNumberFormat(excelCellType), true);
+		}
+	}
+
+	/**
+	 * @param excelCellType
+	 * @param wrapText
+	 * @return index of shared style of data cell
+	 */
+	int getCellStyle(ExcelCellType excelCellType, boolean wrapText) {
+		return dataCellStyles[excelCellType.ordinal()][wrapText ? 1 : 0];
+	}
+
+	/**
+	 * @return index of style of summation cell
+	 */
+	int getFormulaStyle() {
+		return getCellStyle(ExcelCellType.FLOAT, false);
+	}
+
+	/**
+	 * Get index of header style, same as
+	 * {@link SpreadSheetStyleRegistry#getHeaderStyle(Short, Short, boolean)}.
+	 *
+	 * @param textColor
+	 *            - nullable
+	 * @param backgroundColor
+	 *            - nullable
+	 * @param bold
+	 * @return
+	 */
+	int getHeaderStyle(Short textColor, Short backgroundColor, boolean bold) {
+		String key = textColor + ":" + backgroundColor + ":" + bold;
+		Integer style = mapHeaderStyles.get(key);
+		if (style == null) {
+			String font = "<font>" + (bold ? "<b/>" : "") + "<sz val=\"11\"/>"
+					+ (Objects.nonNull(textColor) ? "<color indexed=\"" + textColor + "\"/>" : "") + "<name val=\""
+					+ SpreadSheetStyleRegistry.HEADER_FONT_NAME + "\"/></font>";
+			int fontId = indexOf(font, fonts, mapFonts);
+			int fillId = 0;
+			if (Objects.nonNull(backgroundColor)) {
+				fillId = indexOf("<fill><patternFill patternType=\"solid\"><fgColor indexed=\"" + backgroundColor
+						+ "\"/><bgColor indexed=\"64\"/></patternFill></fill>", fills, mapFills);
+			}
+			cellXfs.add("<xf numFmtId=\"0\" fontId=\"" + fontId + "\" fillId=\"" + fillId
+					+ "\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"" + (fillId != 0 ? " applyFill=\"1\"" : "")
+					+ " applyAlignment=\"1\"><alignment vertical=\"top\"/></xf>");
+			style = cellXfs.size() - 1;
+			mapHeaderStyles.put(key, style);
+		}
+		return style;
+	}
+
+	/**
+	 * Finish current sheet (if any) and start new sheet.
+	 *
+	 * @param sheetName
+	 * @param freezeHeader
+	 */
+	void startSheet(String sheetName, boolean freezeHeader) {
+		requireOpen();
+		endSheet();
+		sheetNames.add(sheetName);
+		try {
+			zipOutputStream.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml"));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		sheetOpen = true;
+		sheetDataStarted = false;
+		this.freezeHeader = freezeHeader;
+		Arrays.fill(headerWidths, 0);
+		comments = new ArrayList<>();
+		rowNumber = -1;
+		lastColumn = -1;
+	}
+
+	/**
+	 * Write current row and start new row.
+	 *
+	 * @param rowNumber
+	 *            - 0 based
+	 */
+	void startRow(int rowNumber) {
+		if (!sheetOpen) {
+			throw new RuntimeException("Initialize sheet");
+		}
+		flushRow();
+		this.rowNumber = rowNumber;
+	}
+
+	/**
+	 * @return row number of current row, -1 when row is not started
+	 */
+	int getRowNumber() {
+		return rowNumber;
+	}
+
+	/**
+	 * Set value of cell in current row.
+	 *
+	 * @param column
+	 * @param value
+	 * @param style
+	 */
+	void setCell(int column, Object value, int style) {
+		if (value == null) {
+			return;
+		}
+		ensureColumn(column);
+		switch (SpreadSheetUtil.getValueFormat(value)) {
+		case INTEGER:
+		case FLOAT:
+		case MONEY:
+		case PERCENTAGE:
+			kinds[column] = KIND_NUMBER;
+			break;
+		case DATE:
+			kinds[column] = KIND_DATE;
+			break;
+		default:
+			kinds[column] = KIND_TEXT;
+			if (rowNumber == 0) {
+				headerWidths[column] = Math.max(headerWidths[column], value.toString().length());
+			}
+			break;
+		}
+		values[column] = value;
+		styles[column] = style;
+	}
+
+	/**
+	 * Set number of cell in current row without boxing.
+	 *
+	 * @param column
+	 * @param value
+	 * @param style
+	 */
+	void setCell(int column, long value, int style) {
+		ensureColumn(column);
+		kinds[column] = KIND_LONG;
+		numbers[column] = value;
+		styles[column] = style;
+	}
+
+	/**
+	 * Set number of cell in current row without boxing.
+	 *
+	 * @param column
+	 * @param value
+	 * @param style
+	 */
+	void setCell(int column, double value, int style) {
+		ensureColumn(column);
+		kinds[column] = KIND_DOUBLE;
+		numbers[column] = Double.doubleToRawLongBits(value);
+		styles[column] = style;
+	}
+
+	/**
+	 * Set date of cell in current row.
+	 *
+	 * @param column
+	 * @param epochDay
+	 *            - days since 1970-01-01, see {@link LocalDate#toEpochDay()}
+	 * @param style
+	 */
+	void setEpochDay(int column, long epochDay, int style) {
+		ensureColumn(column);
+		kinds[column] = KIND_EPOCH_DAY;
+		numbers[column] = epochDay;
+		styles[column] = style;
+	}
+
+	/**
+	 * Set formula of cell in current row, value is calculated when file is opened.
+	 *
+	 * @param column
+	 * @param formula
+	 * @param style
+	 */
+	void setFormula(int column, String formula, int style) {
+		ensureColumn(column);
+		kinds[column] = KIND_FORMULA;
+		values[column] = formula;
+		styles[column] = style;
+		formulaWithoutValue = true;
+	}
+
+	/**
+	 * Set formula of cell in current row with its calculated value.
+	 *
+	 * @param column
+	 * @param formula
+	 * @param cachedValue
+	 *            - NaN to calculate value when file is opened
+	 * @param style
+	 */
+	void setFormula(int column, String formula, double cachedValue, int style) {
+		if (Double.isNaN(cachedValue) || Double.isInfinite(cachedValue)) {
+			setFormula(column, formula, style);
+			return;
+		}
+		ensureColumn(column);
+		kinds[column] = KIND_FORMULA_VALUE;
+		values[column] = formula;
+		numbers[column] = Double.doubleToRawLongBits(cachedValue);
+		styles[column] = style;
+	}
+
+	/**
+	 * Add comment on cell of current row.
+	 *
+	 * @param column
+	 * @param comment
+	 */
+	void setComment(int column, String comment) {
+		comments.add(new Object[] { rowNumber, column, comment });
+	}
+
+	/**
+	 * @return values of current row (formula cells are empty)
+	 */
+	Object[] getRowValues() {
+		Object[] rowValues = new Object[lastColumn + 1];
+		for (int i = 0; i <= lastColumn; i++) {
+			switch (kinds[i]) {
+			case KIND_FORMULA:
+			case KIND_FORMULA_VALUE:
+				break;
+			case KIND_LONG:
+				rowValues[i] = numbers[i];
+				break;
+			case KIND_DOUBLE:
+				rowValues[i] = Double.longBitsToDouble(numbers[i]);
+				break;
+			case KIND_EPOCH_DAY:
+				rowValues[i] = LocalDate.ofEpochDay(numbers[i]);
+				break;
+			default:
+				rowValues[i] = values[i];
+				break;
+			}
+		}
+		return rowValues;
+	}
+
+	/**
+	 * Finish last sheet and write remaining parts of workbook (workbook, styles,
+	 * relationships, content types).
+	 *
+	 * @throws IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			endSheet();
+			writeEntry("[Content_Types].xml", contentTypes());
+			writeEntry("_rels/.rels", XML_DECLARATION + "<Relationships xmlns=\"" + NS_PACKAGE_RELATIONSHIPS
+					+ "\"><Relationship Id=\"rId1\" Type=\"" + NS_RELATIONSHIPS
+					+ "/officeDocument\" Target=\"xl/workbook.xml\"/></Relationships>");
+			writeEntry("xl/workbook.xml", workbook());
+			writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+			writeEntry("xl/styles.xml", styles());
+		} finally {
+			zipOutputStream.close();
+		}
+	}
+
+	/**
+	 * Close output without finishing workbook, i.e: after failure.
+	 */
+	void abort() {
+		if (!closed) {
+			closed = true;
+			try {
+				zipOutputStream.close();
+			} catch (IOException e) {
+				/* already failed */
+			}
+		}
+	}
+
+	private void endSheet() {
+		if (!sheetOpen) {
+			return;
+		}
+		flushRow();
+		startSheetData();
+		write(SHEET_DATA_END);
+		if (!comments.isEmpty()) {
+			write(LEGACY_DRAWING);
+		}
+		write(WORKSHEET_END);
+		sheetOpen = false;
+
+		try {
+			flushBuffer();
+			zipOutputStream.closeEntry();
+			if (!comments.isEmpty()) {
+				writeComments(sheetNames.size());
+				commentSheets.add(sheetNames.size());
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Write XML of sheet before rows, deferred till header row is complete so
+	 * width of columns is known.
+	 */
+	private void startSheetData() {
+		if (sheetDataStarted) {
+			return;
+		}
+		sheetDataStarted = true;
+
+		StringBuilder builder = new StringBuilder(512);
+		builder.append(XML_DECLARATION).append("<worksheet xmlns=\"").append(NS_MAIN).append("\" xmlns:r=\"")
+				.append(NS_RELATIONSHIPS).append("\">");
+		builder.append("<sheetViews><sheetView workbookViewId=\"0\"")
+				.append(sheetNames.size() == 1 ? " tabSelected=\"1\"" : "").append(">");
+		if (freezeHeader) {
+			builder.append("<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>");
+		}
+		builder.append("</sheetView></sheetViews><sheetFormatPr defaultRowHeight=\"15\"/>");
+
+		boolean hasColumns = false;
+		for (int i = 0; i < headerWidths.length; i++) {
+			if (headerWidths[i] > 0) {
+				if (!hasColumns) {
+					builder.append("<cols>");
+					hasColumns = true;
+				}
+				/* bold header and filter button take about 3 characters */
+				builder.append("<col min=\"").append(i + 1).append("\" max=\"").append(i + 1).append("\" width=\"")
+						.append(Math.min(255, headerWidths[i] + 3)).append("\" customWidth=\"1\"/>");
+			}
+		}
+		if (hasColumns) {
+			builder.append("</cols>");
+		}
+		builder.append("<sheetData>");
+		writeUtf8(builder);
+	}
+
+	/**
+	 * Write current row in sheet.
+	 */
+	private void flushRow() {
+		if (rowNumber < 0) {
+			return;
+		}
+		startSheetData();
+
+		if (lastColumn >= 0) {
+			write(ROW_START);
+			writeLong(rowNumber + 1);
+			write(TAG_CLOSE);
+			for (int column = 0; column <= lastColumn; column++) {
+				if (kinds[column] != KIND_EMPTY) {
+					writeCell(column);
+				}
+			}
+			write(ROW_END);
+			if (position > buffer.length / 2) {
+				flushBufferUnchecked();
+			}
+		}
+
+		Arrays.fill(values, 0, lastColumn + 1, null);
+		Arrays.fill(kinds, 0, lastColumn + 1, KIND_EMPTY);
+		lastColumn = -1;
+		rowNumber = -1;
+	}
+
+	private void writeCell(int column) {
+		write(CELL_START);
+		write(columnName(column));
+		writeLong(rowNumber + 1);
+		write(CELL_STYLE);
+		writeLong(styles[column]);
+
+		Object value = values[column];
+		switch (kinds[column]) {
+		case KIND_NUMBER:
+			if (value instanceof Integer || value instanceof Long) {
+				write(CELL_VALUE);
+				writeLong(((Number) value).longValue());
+				write(CELL_VALUE_END);
+			} else {
+				writeNumberCell(((Number) value).doubleValue());
+			}
+			break;
+		case KIND_LONG:
+			write(CELL_VALUE);
+			writeLong(numbers[column]);
+			write(CELL_VALUE_END);
+			break;
+		case KIND_DOUBLE:
+			writeNumberCell(Double.longBitsToDouble(numbers[column]));
+			break;
+		case KIND_DATE:
+			write(CELL_VALUE);
+			writeDate((Date) value);
+			write(CELL_VALUE_END);
+			break;
+		case KIND_EPOCH_DAY:
+			write(CELL_VALUE);
+			writeLong(SpreadSheetUtil.toExcelSerialDay(numbers[column]));
+			write(CELL_VALUE_END);
+			break;
+		case KIND_FORMULA:
+			write(CELL_FORMULA);
+			writeText((String) value);
+			write(CELL_FORMULA_END);
+			break;
+		case KIND_FORMULA_VALUE:
+			write(CELL_FORMULA);
+			writeText((String) value);
+			write(CELL_FORMULA_VALUE);
+			writeDouble(Double.longBitsToDouble(numbers[column]));
+			write(CELL_VALUE_END);
+			break;
+		default:
+			String text = value.toString();
+			boolean preserve = !text.isEmpty()
+					&& (Character.isWhitespace(text.charAt(0)) || Character.isWhitespace(text.charAt(text.length() - 1)));
+			write(preserve ? CELL_INLINE_STRING_PRESERVE : CELL_INLINE_STRING);
+			writeText(text);
+			write(CELL_INLINE_STRING_END);
+			break;
+		}
+	}
+
+	/**
+	 * Write value of number cell, NaN and infinity are written as error.
+	 *
+	 * @param number
+	 */
+	private void writeNumberCell(double number) {
+		if (Double.isNaN(number) || Double.isInfinite(number)) {
+			write(CELL_ERROR);
+			writeAscii(Double.isNaN(number) ? "#NUM!" : "#DIV/0!");
+		} else {
+			write(CELL_VALUE);
+			writeDouble(number);
+		}
+		write(CELL_VALUE_END);
+	}
+
+	private void ensureColumn(int column) {
+		if (rowNumber < 0) {
+			throw new RuntimeException("Initialize row");
+		}
+		if (column >= values.length) {
+			int length = Math.max(column + 1, values.length * 2);
+			values = Arrays.copyOf(values, length);
+			numbers = Arrays.copyOf(numbers, length);
+			styles = Arrays.copyOf(styles, length);
+			kinds = Arrays.copyOf(kinds, length);
+			headerWidths = Arrays.copyOf(headerWidths, length);
+		}
+		lastColumn = Math.max(lastColumn, column);
+	}
+
+	/**
+	 * @param column
+	 * @return pre-encoded column name (A, B, ..., AA, ...)
+	 */
+	private byte[] columnName(int column) {
+		while (columnNames.size() <= column) {
+			columnNames.add(ascii(SpreadSheetUtil.generateCellName(columnNames.size() + 1)));
+		}
+		return columnNames.get(column);
+	}
+
+	/**
+	 * Write Excel serial date (days since 1899-12-30 in local time zone, same as
+	 * POI) without creating calendar or string.
+	 *
+	 * @param date
+	 */
+	private void writeDate(Date date) {
+		long millis = date.getTime();
+		millis += timeZone.getOffset(millis);
+		long days = SpreadSheetUtil.toExcelSerialDay(Math.floorDiv(millis, MILLIS_PER_DAY));
+		long millisOfDay = Math.floorMod(millis, MILLIS_PER_DAY);
+		if (days < 1) {
+			writeLong(-1);
+			return;
+		}
+
+		writeLong(days);
+		if (millisOfDay > 0) {
+			ensureCapacity(16);
+			buffer[position++] = '.';
+			for (int i = 0; i < 15 && millisOfDay > 0; i++) {
+				millisOfDay *= 10;
+				buffer[position++] = (byte) ('0' + millisOfDay / MILLIS_PER_DAY);
+				millisOfDay %= MILLIS_PER_DAY;
+			}
+		}
+	}
+
+	private void writeDouble(double number) {
+		if (number == Math.rint(number) && Math.abs(number) < 1e15) {
+			writeLong((long) number);
+		} else {
+			numberBuilder.setLength(0);
+			numberBuilder.append(number);
+			writeAscii(numberBuilder);
+		}
+	}
+
+	private void writeLong(long number) {
+		if (number == Long.MIN_VALUE) {
+			writeAscii(Long.toString(number));
+			return;
+		}
+		ensureCapacity(20);
+		if (number < 0) {
+			buffer[position++] = '-';
+			number = -number;
+		}
+		int end = position + stringSize(number);
+		int index = end;
+		do {
+			buffer[--index] = (byte) ('0' + number % 10);
+			number /= 10;
+		} while (number > 0);
+		position = end;
+	}
+
+	private static int stringSize(long number) {
+		long limit = 10;
+		for (int size = 1; size < 19; size++) {
+			if (number < limit) {
+				return size;
+			}
+			limit *= 10;
+		}
+		return 19;
+	}
+
+	/**
+	 * Write text escaped for XML element/attribute, encoded in UTF-8. Characters
+	 * not allowed in XML are skipped.
+	 *
+	 * @param text
+	 */
+	private void writeText(CharSequence text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			ensureCapacity(8);
+			if (c < 0x80) {
+				switch (c) {
+				case '<':
+					writeAscii("&lt;");
+					break;
+				case '>':
+					writeAscii("&gt;");
+					break;
+				case '&':
+					writeAscii("&amp;");
+					break;
+				case '"':
+					writeAscii("&quot;");
+					break;
+				default:
+					if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+						buffer[position++] = (byte) c;
+					}
+					break;
+				}
+			} else if (c < 0x800) {
+				buffer[position++] = (byte) (0xC0 | (c >> 6));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+					&& Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else if (!Character.isSurrogate(c) && c != 0xFFFE && c != 0xFFFF) {
+				buffer[position++] = (byte) (0xE0 | (c >> 12));
+				buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private void writeAscii(CharSequence text) {
+		ensureCapacity(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			buffer[position++] = (byte) text.charAt(i);
+		}
+	}
+
+	private void writeUtf8(CharSequence text) {
+		byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+		ensureCapacity(bytes.length);
+		write(bytes);
+	}
+
+	private void write(byte[] bytes) {
+		if (bytes.length > buffer.length - position) {
+			flushBufferUnchecked();
+			if (bytes.length > buffer.length) {
+				try {
+					zipOutputStream.write(bytes);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+				return;
+			}
+		}
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+
+	private void ensureCapacity(int length) {
+		if (length > buffer.length - position) {
+			flushBufferUnchecked();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (position > 0) {
+			zipOutputStream.write(buffer, 0, position);
+			position = 0;
+		}
+	}
+
+	private void flushBufferUnchecked() {
+		try {
+			flushBuffer();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void writeEntry(String name, String content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		zipOutputStream.closeEntry();
+	}
+
+	/**
+	 * Write comments of current sheet, shapes of comments (VML) and relationships
+	 * of sheet.
+	 *
+	 * @param sheetIndex
+	 * @throws IOException
+	 */
+	private void writeComments(int sheetIndex) throws IOException {
+		StringBuilder commentXml = new StringBuilder(XML_DECLARATION);
+		commentXml.append("<comments xmlns=\"").append(NS_MAIN).append("\"><authors><author>").append(COMMENT_AUTHOR)
+				.append("</author></authors><commentList>");
+		StringBuilder vml = new StringBuilder(
+				"<xml xmlns:v=\"urn:schemas-microsoft-com:vml\" xmlns:o=\"urn:schemas-microsoft-com:office:office\""
+						+ " xmlns:x=\"urn:schemas-microsoft-com:office:excel\">"
+						+ "<o:shapelayout v:ext=\"edit\"><o:idmap v:ext=\"edit\" data=\"" + sheetIndex
+						+ "\"/></o:shapelayout>"
+						+ "<v:shapetype id=\"_x0000_t202\" coordsize=\"21600,21600\" o:spt=\"202\""
+						+ " path=\"m,l,21600r21600,l21600,xe\"><v:stroke joinstyle=\"miter\"/>"
+						+ "<v:path gradientshapeok=\"t\" o:connecttype=\"rect\"/></v:shapetype>");
+
+		int shapeId = sheetIndex * 1024 + 1;
+		for (Object[] comment : comments) {
+			int row = (Integer) comment[0];
+			int column = (Integer) comment[1];
+			commentXml.append("<comment ref=\"").append(SpreadSheetUtil.generateCellName(column + 1)).append(row + 1)
+					.append("\" authorId=\"0\"><text><t xml:space=\"preserve\">")
+					.append(escape(String.valueOf(comment[2]))).append("</t></text></comment>");
+			/* same anchor as POI comment: 1 column x 5 rows */
+			vml.append("<v:shape id=\"_x0000_s").append(shapeId++).append("\" type=\"#_x0000_t202\"")
+					.append(" style=\"position:absolute;visibility:hidden\" fillcolor=\"#ffffe1\" o:insetmode=\"auto\">")
+					.append("<v:fill color2=\"#ffffe1\"/><v:shadow on=\"t\" color=\"black\" obscured=\"t\"/>")
+					.append("<v:path o:connecttype=\"none\"/><v:textbox/><x:ClientData ObjectType=\"Note\">")
+					.append("<x:MoveWithCells/><x:SizeWithCells/><x:Anchor>").append(column).append(", 0, ")
+					.append(row).append(", 0, ").append(column + 1).append(", 0, ").append(row + 5)
+					.append(", 0</x:Anchor><x:AutoFill>False</x:AutoFill><x:Row>").append(row)
+					.append("</x:Row><x:Column>").append(column).append("</x:Column></x:ClientData></v:shape>");
+		}
+		commentXml.append("</commentList></comments>");
+		vml.append("</xml>");
+
+		writeEntry("xl/comments" + sheetIndex + ".xml", commentXml.toString());
+		writeEntry("xl/drawings/vmlDrawing" + sheetIndex + ".vml", vml.toString());
+		writeEntry("xl/worksheets/_rels/sheet" + sheetIndex + ".xml.rels",
+				XML_DECLARATION + "<Relationships xmlns=\"" + NS_PACKAGE_RELATIONSHIPS + "\">"
+						+ "<Relationship Id=\"rId1\" Type=\"" + NS_RELATIONSHIPS
+						+ "/vmlDrawing\" Target=\"../drawings/vmlDrawing" + sheetIndex + ".vml\"/>"
+						+ "<Relationship Id=\"rId2\" Type=\"" + NS_RELATIONSHIPS + "/comments\" Target=\"../comments"
+						+ sheetIndex + ".xml\"/></Relationships>");
+	}
+
+	private String contentTypes() {
+		StringBuilder builder = new StringBuilder(XML_DECLARATION);
+		builder.append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+				.append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+				.append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+				.append("<Default Extension=\"vml\" ContentType=\"application/vnd.openxmlformats-officedocument.vmlDrawing\"/>")
+				.append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+				.append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+		for (int i = 1; i <= sheetNames.size(); i++) {
+			builder.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+					.append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+		}
+		for (Integer sheetIndex : commentSheets) {
+			builder.append("<Override PartName=\"/xl/comments").append(sheetIndex)
+					.append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.comments+xml\"/>");
+		}
+		return builder.append("</Types>").toString();
+	}
+
+	private String workbook() {
+		StringBuilder builder = new StringBuilder(XML_DECLARATION);
+		builder.append("<workbook xmlns=\"").append(NS_MAIN).append("\" xmlns:r=\"").append(NS_RELATIONSHIPS)
+				.append("\"><bookViews><workbookView activeTab=\"0\"/></bookViews><sheets>");
+		for (int i = 0; i < sheetNames.size(); i++) {
+			builder.append("<sheet name=\"").append(escape(sheetNames.get(i))).append("\" sheetId=\"").append(i + 1)
+					.append("\" r:id=\"rId").append(i + 1).append("\"/>");
+		}
+		builder.append("</sheets>");
+		if (formulaWithoutValue) {
+			/* formulas without value are calculated by Excel when file is opened */
+			builder.append("<calcPr calcId=\"0\" fullCalcOnLoad=\"1\"/>");
+		}
+		return builder.append("</workbook>").toString();
+	}
+
+	private String workbookRelationships() {
+		StringBuilder builder = new StringBuilder(XML_DECLARATION);
+		builder.append("<Relationships xmlns=\"").append(NS_PACKAGE_RELATIONSHIPS).append("\">");
+		for (int i = 1; i <= sheetNames.size(); i++) {
+			builder.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(NS_RELATIONSHIPS)
+					.append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+		}
+		builder.append("<Relationship Id=\"rId").append(sheetNames.size() + 1).append("\" Type=\"")
+				.append(NS_RELATIONSHIPS).append("/styles\" Target=\"styles.xml\"/>");
+		return builder.append("</Relationships>").toString();
+	}
+
+	private String styles() {
+		StringBuilder builder = new StringBuilder(XML_DECLARATION);
+		builder.append("<styleSheet xmlns=\"").append(NS_MAIN).append("\">")
+				.append("<numFmts count=\"1\"><numFmt numFmtId=\"164\" formatCode=\"$#,##0.00;$#,##0.00\"/></numFmts>");
+		appendList(builder, "fonts", fonts);
+		appendList(builder, "fills", fills);
+		builder.append("<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>")
+				.append("<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>");
+		appendList(builder, "cellXfs", cellXfs);
+		builder.append("<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>");
+		return builder.append("</styleSheet>").toString();
+	}
+
+	private int addDataCellStyle(int numberFormat, boolean wrapText) {
+		cellXfs.add("<xf numFmtId=\"" + numberFormat + "\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\""
+				+ (numberFormat != 0 ? " applyNumberFormat=\"1\"" : "") + " applyAlignment=\"1\"><alignment vertical=\"top\""
+				+ (wrapText ? " wrapText=\"1\"" : "") + "/></xf>");
+		return cellXfs.size() - 1;
+	}
+
+	/**
+	 * @param excelCellType
+	 * @return id of built-in number format or 164 for money
+	 */
+	private static int getNumberFormat(ExcelCellType excelCellType) {
+		switch (excelCellType) {
+		case INTEGER:
+			return 3; // #,##0
+		case FLOAT:
+			return 4; // #,##0.00
+		case DATE:
+			return 14; // m/d/yy
+		case MONEY:
+			return 164; // $#,##0.00;$#,##0.00
+		case PERCENTAGE:
+			return 10; // 0.00%
+		default:
+			return 0;
+		}
+	}
+
+	private static int indexOf(String xml, List<String> list, Map<String, Integer> map) {
+		Integer index = map.get(xml);
+		if (index == null) {
+			list.add(xml);
+			index = list.size() - 1;
+			map.put(xml, index);
+		}
+		return index;
+	}
+
+	private static void appendList(StringBuilder builder, String name, List<String> list) {
+		builder.append('<').append(name).append(" count=\"").append(list.size()).append("\">");
+		for (String xml : list) {
+			builder.append(xml);
+		}
+		builder.append("</").append(name).append('>');
+	}
+
+	private static String escape(String text) {
+		return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+	}
+
+	private static byte[] ascii(String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private void requireOpen() {
+		if (closed) {
+			throw new IllegalStateException("workbook is already closed");
+		}
+	}
+}
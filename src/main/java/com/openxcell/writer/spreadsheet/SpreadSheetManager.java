@@ -3,8 +3,13 @@ package com.openxcell.writer.spreadsheet;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,17 +18,19 @@ import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.apache.poi.hssf.usermodel.HSSFDataFormat;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.DataFormat;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import com.openxcell.io.FileHolder;
-import com.openxcell.util.JSONUtils;
+import com.openxcell.util.StringUtils;
+import com.openxcell.writer.metrics.ExportMetricsListener;
+import com.openxcell.writer.metrics.ExportPhase;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplatePlan.Summation.Aggregate;
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
 
 /**
  * @author vicky.thakor
@@ -32,20 +39,88 @@ import com.openxcell.util.JSONUtils;
  * @change wrap cell text
  * @author vicky.thakor
  * @since 2018-06-01
+ * 
+ * @change shared cell styles from {@link SpreadSheetStyleRegistry}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change optional {@link SpreadSheetDirectEngine} to stream sheet XML straight into file
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change wrap text resolved per column index from {@link SpreadSheetTemplatePlan}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change primitive number and date cells, boxed numbers are written through them
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change report metrics of export to {@link ExportMetricsListener}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change {@link AutoSizeMode}, columns are resized on every sheet
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change sheet change threshold up to {@link #MAX_SHEET_ROW_THRESHOLD}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change summation aggregates written with value, optional grand total row
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change workbook is built with first sheet so stream configuration takes effect, row window from memory budget
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetManager {
 	private static Logger logger = Logger.getLogger(SpreadSheetManager.class.getName());
+
+	/**
+	 * Highest sheet change threshold, rows of XLSX sheet leaving rows for
+	 * summation and grand total.
+	 */
+	public static final int MAX_SHEET_ROW_THRESHOLD = SpreadsheetVersion.EXCEL2007.getMaxRows() - 2;
+
+	/**
+	 * How width of columns is calculated when sheet is completed. Direct engine
+	 * always uses width of header.
+	 */
+	public enum AutoSizeMode {
+		/**
+		 * Measure every cell with AWT font metrics (POI auto size), exact but slow
+		 * and requires fonts on headless machines.
+		 */
+		EXACT,
+		/**
+		 * Estimate from number of characters of sampled cells, see
+		 * {@link SpreadSheetColumnWidthEstimator}.
+		 */
+		ESTIMATE,
+		/**
+		 * Keep default width.
+		 */
+		NONE
+	}
 	
 	private SXSSFWorkbook workbook; // http://poi.apache.org/spreadsheet/how-to.html#sxssf
 	private SXSSFSheet sheet;
 	private Row headerRow;
 	private Row dataRow;
-	private CellStyle cellStyle;
-	private DataFormat dataFormat;
+	private SpreadSheetStyleRegistry styleRegistry;
+
+	/* direct engine, replaces POI sheet/row/cell when enabled */
+	private SpreadSheetDirectEngine directEngine;
+	private FileHolder directFileHolder;
 
-	/* streaming */
+	/* streaming, applied when workbook is built with first sheet */
 	private boolean enableStream = false;
 	private int streamRowBuffer = -1;
+	/* null unless window is sized from memory budget */
+	private SpreadSheetStreamWindow streamWindow;
 
 	/* counter */
 	private int workbookRowCount = 0;
@@ -58,66 +133,273 @@ public class SpreadSheetManager {
 	/* configuration */
 	private boolean freezeHeader = false;
 	private boolean boldHeader = false;
+	private AutoSizeMode autoSizeMode = AutoSizeMode.EXACT;
+	/* null unless AutoSizeMode.ESTIMATE */
+	private SpreadSheetColumnWidthEstimator widthEstimator;
+	/* whether cells of current row are measured by widthEstimator */
+	private boolean measureRow = false;
 
 	private Map<String, Integer> headers = new LinkedHashMap<>(0);
-	private Map<Integer, String> headerIndex = new HashMap<>();
+	/* column index => wrap text, resolved once when header is added */
+	private boolean[] wrapTextColumns = new boolean[0];
 	private Map<String, Short> headerBackgroundColor;
 	private Map<String, Short> headerTextColor;
 
+	private String sheetName;
+	private List<String> sheetNames = new ArrayList<>();
+
 	private SpreadSheetTemplate spreadSheetTemplate;
 	private List<String> summationBeforeNewSheet = new ArrayList<>(0);
-	private List<String> wrapTextHeaders = new ArrayList<>();
+	private SpreadSheetTemplatePlan templatePlan;
+	/* null unless template has summation headers */
+	private SpreadSheetAggregator aggregator;
+	/* last data row (1 based) of each completed sheet, for grand total */
+	private List<Integer> sheetLastDataRows = new ArrayList<>(0);
+
+	/* metrics, nothing is measured unless listener is set */
+	private ExportMetricsListener metricsListener = ExportMetricsListener.NONE;
+	private boolean metricsEnabled = false;
+	private long metricsStartNanos = 0;
+	private long flushNanos = 0;
+	private long dataRowCount = 0;
 
-	/* Build new workbook */
+	/**
+	 * Prepare new workbook of given template. Workbook itself is created with
+	 * first sheet, so stream and direct engine can be configured until header
+	 * is added.
+	 * 
+	 * @param spreadSheetTemplate
+	 */
 	public void buildWorkbook(SpreadSheetTemplate spreadSheetTemplate) {
+		initWorkbook(spreadSheetTemplate);
+	}
+
+	/* Open file of direct engine */
+	private void openDirectEngine() {
+		try {
+			directEngine = new SpreadSheetDirectEngine(new FileOutputStream(directFileHolder));
+		} catch (IOException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/* Create workbook of POI sheets */
+	private void createWorkbook() {
 		if (enableStream) {
-			workbook = new SXSSFWorkbook(streamRowBuffer);
-			((SXSSFWorkbook) workbook).setCompressTempFiles(true);
+			workbook = new SpreadSheetStreamingWorkbook(streamRowBuffer);
+			workbook.setCompressTempFiles(true);
 		} else {
-			workbook = new SXSSFWorkbook(-1);
+			workbook = new SpreadSheetStreamingWorkbook(-1);
 		}
-		
+		styleRegistry = new SpreadSheetStyleRegistry(workbook);
+	}
+
+	/**
+	 * Write sheets of given template in workbook shared with other templates.
+	 * 
+	 * @param spreadSheetTemplate
+	 * @param workbook
+	 * @param sheetName
+	 *            - name of first sheet, following sheets are named `sheetName 2`,
+	 *            `sheetName 3`, ...
+	 * @param styleRegistry
+	 *            - styles of shared workbook
+	 */
+	void buildWorkbook(SpreadSheetTemplate spreadSheetTemplate, SXSSFWorkbook workbook, String sheetName,
+			SpreadSheetStyleRegistry styleRegistry) {
+		this.workbook = workbook;
+		this.sheetName = sheetName;
+		this.styleRegistry = styleRegistry;
+		initWorkbook(spreadSheetTemplate);
+	}
+
+	private void initWorkbook(SpreadSheetTemplate spreadSheetTemplate) {
 		this.spreadSheetTemplate = spreadSheetTemplate;
-		dataFormat = workbook.createDataFormat();
-		cellStyle = workbook.createCellStyle();
-		
-		if (Objects.nonNull(spreadSheetTemplate.getSummationHeaders())) {
-			summationBeforeNewSheet = JSONUtils.JSONArrayToList(String.class, spreadSheetTemplate.getSummationHeaders());
-		}
-		
-		if(Objects.nonNull(spreadSheetTemplate.getWrapTextHeaders())) {
-			wrapTextHeaders = JSONUtils.JSONArrayToList(String.class, spreadSheetTemplate.getWrapTextHeaders());
+		templatePlan = spreadSheetTemplate.compile();
+		if (Objects.nonNull(templatePlan.getSummation())) {
+			summationBeforeNewSheet = new ArrayList<>(templatePlan.getSummation().getHeaders());
+			aggregator = new SpreadSheetAggregator();
 		}
 	}
 
 	/**
-	 * Enable stream in excel
+	 * Enable stream in excel, only given number of rows is kept in memory and
+	 * rest is flushed to compressed temporary file. Must be enabled before
+	 * first header is added.
 	 * 
 	 * @param enableStream
 	 * @param streamRowBuffer
 	 */
 	public void enableStream(boolean enableStream, int streamRowBuffer) {
-		this.enableStream = enableStream;
-		this.streamRowBuffer = streamRowBuffer;
 		if (enableStream && streamRowBuffer <= 0) {
 			throw new RuntimeException("Provide streamRowBuffer greater than 0.");
 		}
+		requireNoWorkbook();
+		this.enableStream = enableStream;
+		this.streamRowBuffer = streamRowBuffer;
+		this.streamWindow = null;
+	}
+
+	/**
+	 * Enable stream with rows kept in memory sized from given heap budget
+	 * instead of number of rows. Window is adjusted as size of written rows is
+	 * measured, see {@link SpreadSheetStreamWindow}. Must be enabled before
+	 * first header is added. Also applies to sheets of shared workbook, window
+	 * is set on each sheet of this manager.
+	 * 
+	 * @param memoryBudget
+	 *            - bytes of heap for rows of sheet
+	 */
+	public void setStreamMemoryBudget(long memoryBudget) {
+		if (memoryBudget <= 0) {
+			throw new RuntimeException("Provide memory budget greater than 0.");
+		}
+		if (Objects.nonNull(sheetName)) {
+			/* shared workbook, window is set per sheet when sheet is created */
+			if (sheetCount > 0) {
+				throw new RuntimeException("Set memory budget before adding header");
+			}
+		} else {
+			requireNoWorkbook();
+		}
+		this.streamWindow = new SpreadSheetStreamWindow(memoryBudget);
+		this.enableStream = true;
+		this.streamRowBuffer = streamWindow.getWindow();
+	}
+
+	/**
+	 * @return true when stream, its memory budget or direct engine is set, or
+	 *         workbook is already built
+	 */
+	boolean isStreamConfigured() {
+		return enableStream || Objects.nonNull(directFileHolder) || Objects.nonNull(workbook);
+	}
+
+	private void requireNoWorkbook() {
+		if (Objects.nonNull(workbook)) {
+			throw new RuntimeException(Objects.nonNull(sheetName) ? "Stream of shared workbook is set by its owner"
+					: "Enable stream before adding header");
+		}
+	}
+
+	/**
+	 * Set how width of columns is calculated, default is
+	 * {@link AutoSizeMode#EXACT}. Must be set before first header is added.
+	 * 
+	 * @param autoSizeMode
+	 */
+	public void setAutoSizeMode(AutoSizeMode autoSizeMode) {
+		Objects.requireNonNull(autoSizeMode, "auto size mode can not be null");
+		if (sheetCount > 0) {
+			throw new RuntimeException("Set auto size mode before adding header");
+		}
+		this.autoSizeMode = autoSizeMode;
+		this.widthEstimator = autoSizeMode == AutoSizeMode.ESTIMATE ? new SpreadSheetColumnWidthEstimator() : null;
+	}
+
+	/**
+	 * Report metrics of export to given listener, see
+	 * {@link ExportMetricsListener}. Metrics are reported when workbook is
+	 * closed with {@link #closeWorkbook(FileHolder)} or when shared workbook is
+	 * written by {@link SpreadSheetWorkbookWriter}.
+	 * 
+	 * @param metricsListener
+	 *            - null or {@link ExportMetricsListener#NONE} to disable
+	 */
+	public void setExportMetricsListener(ExportMetricsListener metricsListener) {
+		this.metricsListener = Objects.nonNull(metricsListener) ? metricsListener : ExportMetricsListener.NONE;
+		this.metricsEnabled = this.metricsListener != ExportMetricsListener.NONE;
+	}
+
+	/**
+	 * @return true when {@link ExportMetricsListener} is set, time is measured
+	 *         only then
+	 */
+	protected boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/**
+	 * @return time spent creating rows (including flush of rows) so far
+	 */
+	protected long getFlushNanos() {
+		return flushNanos;
+	}
+
+	/**
+	 * Report metrics of subclass before export is completed.
+	 * 
+	 * @param metricsListener
+	 */
+	protected void reportMetrics(ExportMetricsListener metricsListener) {
+	}
+
+	/**
+	 * Render workbook with {@link SpreadSheetDirectEngine}: sheet XML is streamed
+	 * straight into given file instead of going through POI row/cell objects and
+	 * temporary files. Must be enabled before first header is added, file is
+	 * opened with first sheet and {@link #closeWorkbook(FileHolder)} completes
+	 * it (incomplete file is deleted when closing fails). Column widths are
+	 * estimated from header and header colors must be set before headers are
+	 * added.<br/>
+	 * <br/>
+	 * Not available for workbook shared with other templates.
+	 * 
+	 * @param fileHolder
+	 * @throws IOException
+	 */
+	public void enableDirectEngine(FileHolder fileHolder) throws IOException {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		if (sheetCount > 0) {
+			throw new RuntimeException("Enable direct engine before adding header");
+		}
+		if (Objects.nonNull(sheetName)) {
+			throw new RuntimeException("Direct engine is not supported in shared workbook");
+		}
+		directFileHolder = fileHolder;
 	}
 
 	/* Prepare new sheet */
 	private void prepareSheet() {
 		if (sheetRowCount == 0 || sheetRowCount > sheetChangeThreshold) {
+			if (metricsEnabled) {
+				if (sheetCount == 0) {
+					metricsStartNanos = System.nanoTime();
+					metricsListener.exportStarted(spreadSheetTemplate);
+				} else {
+					metricsListener.sheetRollover(sheetCount + 1, sheetRowCount);
+				}
+			}
 			sheetCount++;
 			sheetRowCount = 0;
 			columnCount = 0;
 
 			
-			sheet = workbook.createSheet("Sheet " + sheetCount);
-			sheet.trackAllColumnsForAutoSizing();
+			String name = Objects.isNull(sheetName) ? "Sheet " + sheetCount
+					: sheetCount == 1 ? sheetName : sheetName + " " + sheetCount;
+			if (Objects.nonNull(directFileHolder)) {
+				if (Objects.isNull(directEngine)) {
+					openDirectEngine();
+				}
+				directEngine.startSheet(name, freezeHeader);
+			} else {
+				if (Objects.isNull(workbook)) {
+					createWorkbook();
+				}
+				sheet = workbook.createSheet(name);
+				if (Objects.nonNull(streamWindow)) {
+					sheet.setRandomAccessWindowSize(streamWindow.getWindow());
+				}
+				if (autoSizeMode == AutoSizeMode.EXACT) {
+					sheet.trackAllColumnsForAutoSizing();
+				}
+			}
+			sheetNames.add(name);
 			
 			headerRow = createRow(sheetRowCount);
 
-			if (freezeHeader) {
+			if (freezeHeader && Objects.isNull(directEngine)) {
 				sheet.createFreezePane(0, 1);
 			}
 
@@ -127,13 +409,14 @@ public class SpreadSheetManager {
 	}
 
 	/**
-	 * Set limit when to create new sheet.
+	 * Set limit when to create new sheet, default is 65000 rows.
 	 * 
 	 * @param rowCount
+	 *            - at most {@link #MAX_SHEET_ROW_THRESHOLD}
 	 */
 	public void setSheetChangeThreshold(int rowCount) {
-		if (rowCount > 65000) {
-			throw new RuntimeException("You can't write more than 65000 rows in one sheet");
+		if (rowCount > MAX_SHEET_ROW_THRESHOLD) {
+			throw new RuntimeException("You can't write more than " + MAX_SHEET_ROW_THRESHOLD + " rows in one sheet");
 		}
 		sheetChangeThreshold = rowCount;
 	}
@@ -163,28 +446,36 @@ public class SpreadSheetManager {
 			/* Will be used when creating new sheet */
 			columnCount = headers.size();
 			headers.put(header, columnCount);
-			headerIndex.put(columnCount, header);
-		}
-
-		Font font = workbook.createFont();
-		font.setFontName("Times New Roman");
-
-		if (Objects.nonNull(headerTextColor) && headerTextColor.containsKey(header)) {
-			font.setColor(headerTextColor.get(header));
+			if (columnCount >= wrapTextColumns.length) {
+				wrapTextColumns = Arrays.copyOf(wrapTextColumns, Math.max(columnCount + 1, wrapTextColumns.length * 2));
+			}
+			wrapTextColumns[columnCount] = templatePlan.isWrapText(header);
+			if (Objects.nonNull(aggregator) && Objects.nonNull(templatePlan.getSummation().getAggregate(header))) {
+				aggregator.track(columnCount, templatePlan.getSummation().getAggregate(header));
+			}
 		}
 
-		if (boldHeader) {
-			font.setBold(true);
-		}
-		sheet.trackColumnForAutoSizing(columnCount);
-		
 		String comment = null;
 		if(Objects.nonNull(spreadSheetTemplate.getHeaderComment())) {
 			comment = spreadSheetTemplate.getHeaderComment().optString(header);
 		}
 		
-		SpreadSheetUtil.writeCell(workbook, headerRow, columnCount, header, font, dataFormat,
-				workbook.createCellStyle(), false, comment);
+		if (Objects.nonNull(directEngine)) {
+			if (directEngine.getRowNumber() != 0) {
+				throw new RuntimeException("Add header before rows");
+			}
+			directEngine.setCell(columnCount, header, getDirectHeaderStyle(header));
+			if (StringUtils.nonNullNotEmpty(comment)) {
+				directEngine.setComment(columnCount, comment);
+			}
+		} else {
+			if (autoSizeMode == AutoSizeMode.EXACT) {
+				sheet.trackColumnForAutoSizing(columnCount);
+			} else if (Objects.nonNull(widthEstimator)) {
+				widthEstimator.measureHeader(columnCount, header);
+			}
+			SpreadSheetUtil.writeCell(workbook, headerRow, columnCount, header, getHeaderStyle(header), comment);
+		}
 		return columnCount++;
 	}
 
@@ -204,9 +495,15 @@ public class SpreadSheetManager {
 
 	/**
 	 * Auto-resize columns before moving to next sheet
+	 * 
+	 * @change resize as per {@link AutoSizeMode}
+	 * @author vicky.thakor
+	 * @since 2026-10-18
 	 */
 	private void autoResizeHeader() {
-		if (headers != null) {
+		if (autoSizeMode == AutoSizeMode.ESTIMATE) {
+			widthEstimator.apply(sheet);
+		} else if (autoSizeMode == AutoSizeMode.EXACT && headers != null) {
 			headers.values().stream().forEach(columnIndex -> {
 				sheet.autoSizeColumn(columnIndex);
 			});
@@ -232,7 +529,8 @@ public class SpreadSheetManager {
 	}
 
 	/**
-	 * Set header color
+	 * Set header color. Background color is applied when header is added, this
+	 * only covers colors configured after headers were added in current sheet.
 	 * 
 	 * @param headerColor
 	 */
@@ -240,21 +538,37 @@ public class SpreadSheetManager {
 		if (Objects.nonNull(headerBackgroundColor)) {
 			Row headerRow = sheet.getRow(0);
 			if (Objects.nonNull(headerRow)) {
-				headerBackgroundColor.entrySet().stream().filter(Objects::nonNull).forEach(entrySet -> {
-					String headerName = entrySet.getKey();
-					Short color = entrySet.getValue();
-					if (headers.containsKey(headerName)) {
-						int columnIndex = headers.get(headerName);
-						CellStyle cellStyle = headerRow.getCell(columnIndex).getCellStyle();
-						cellStyle.setFillForegroundColor(color);
-						cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-						headerRow.getCell(columnIndex).setCellStyle(cellStyle);
+				headerBackgroundColor.keySet().stream().filter(Objects::nonNull).forEach(headerName -> {
+					if (headers.containsKey(headerName)
+							&& Objects.nonNull(headerRow.getCell(headers.get(headerName)))) {
+						headerRow.getCell(headers.get(headerName)).setCellStyle(getHeaderStyle(headerName));
 					}
 				});
 			}
 		}
 	}
 
+	/**
+	 * @param header
+	 * @return shared style of header based on text color, background color and
+	 *         bold
+	 */
+	private CellStyle getHeaderStyle(String header) {
+		Short textColor = Objects.nonNull(headerTextColor) ? headerTextColor.get(header) : null;
+		Short backgroundColor = Objects.nonNull(headerBackgroundColor) ? headerBackgroundColor.get(header) : null;
+		return styleRegistry.getHeaderStyle(textColor, backgroundColor, boldHeader);
+	}
+
+	/**
+	 * @param header
+	 * @return index of header style in {@link SpreadSheetDirectEngine}
+	 */
+	private int getDirectHeaderStyle(String header) {
+		Short textColor = Objects.nonNull(headerTextColor) ? headerTextColor.get(header) : null;
+		Short backgroundColor = Objects.nonNull(headerBackgroundColor) ? headerBackgroundColor.get(header) : null;
+		return directEngine.getHeaderStyle(textColor, backgroundColor, boldHeader);
+	}
+
 	/**
 	 * Add new row in current sheet
 	 * 
@@ -262,14 +576,11 @@ public class SpreadSheetManager {
 	 */
 	public int newRow() {
 		if (sheetRowCount >= sheetChangeThreshold) {
-			if (summationBeforeNewSheet != null) {
-				lastRow();
-				summationBeforeNewSheet.stream().forEach(header -> {
-					summation(header, 0);
-				});
-			}
+			summationRow();
 
-//			autoResizeHeader();
+			if (Objects.isNull(directEngine)) {
+				autoResizeHeader();
+			}
 			prepareSheet();
 			if (headers != null) {
 				headers.keySet().stream().forEach(header -> {
@@ -278,10 +589,17 @@ public class SpreadSheetManager {
 			}
 		}
 
+		if (Objects.nonNull(streamWindow) && Objects.nonNull(dataRow)
+				&& SpreadSheetStreamWindow.isSampled(sheetRowCount) && streamWindow.sample(dataRow)) {
+			sheet.setRandomAccessWindowSize(streamWindow.getWindow());
+		}
+		measureRow = Objects.nonNull(widthEstimator) && Objects.isNull(directEngine)
+				&& SpreadSheetColumnWidthEstimator.isSampled(sheetRowCount);
 		dataRow = createRow(sheetRowCount);
 		cellCount = 0;
 		sheetRowCount++;
 		workbookRowCount++;
+		dataRowCount++;
 		return sheetRowCount;
 	}
 
@@ -290,6 +608,15 @@ public class SpreadSheetManager {
 	 * @return
 	 */
 	public int copyPreviousRow() {
+		if (Objects.nonNull(directEngine)) {
+			Object[] values = directEngine.getRowValues();
+			newRow();
+			for (Object value : values) {
+				addValueCell(value);
+			}
+			return sheetRowCount;
+		}
+		
 		Row row = sheet.getRow(sheetRowCount-1);
 		newRow();
 		
@@ -318,20 +645,105 @@ public class SpreadSheetManager {
 	}
 
 	/**
+	 * Numbers (Integer, Long, Float, Double) and {@link LocalDate} are written
+	 * through primitive overloads, other values are written by their type.
+	 * 
 	 * @param index
 	 * @param value
 	 */
 	public void addValueCell(int index, Object value) {
-		SpreadSheetUtil.writeCell(workbook, dataRow, index, value, null, dataFormat, cellStyle, doWrapText(index), null);
+		if (Objects.nonNull(aggregator) && value instanceof Date) {
+			aggregator.add(index, DateUtil.getExcelDate((Date) value));
+		}
+
+		if (value instanceof Integer || value instanceof Long) {
+			addValueCell(index, ((Number) value).longValue());
+		} else if (value instanceof Double || value instanceof Float) {
+			addValueCell(index, ((Number) value).doubleValue());
+		} else if (value instanceof LocalDate) {
+			addEpochDayCell(index, ((LocalDate) value).toEpochDay());
+		} else if (Objects.nonNull(directEngine)) {
+			writeDirectCell(index, value, doWrapText(index));
+		} else {
+			SpreadSheetUtil.writeCell(workbook, dataRow, index, value, styleRegistry, doWrapText(index), null);
+			if (measureRow) {
+				widthEstimator.measure(index, value, doWrapText(index));
+			}
+		}
+	}
+
+	/**
+	 * Add integer cell in current row, value is not boxed or converted to text.
+	 * 
+	 * @param index
+	 * @param value
+	 */
+	public void addValueCell(int index, long value) {
+		if (Objects.nonNull(aggregator)) {
+			aggregator.add(index, value);
+		}
+		if (Objects.nonNull(directEngine)) {
+			directEngine.setCell(index, value, directEngine.getCellStyle(ExcelCellType.INTEGER, doWrapText(index)));
+		} else {
+			SpreadSheetUtil.writeCell(dataRow, index, value,
+					styleRegistry.getCellStyle(ExcelCellType.INTEGER, doWrapText(index)));
+			if (measureRow) {
+				widthEstimator.measure(index, value);
+			}
+		}
+	}
+
+	/**
+	 * Add decimal cell in current row, value is not boxed or converted to text.
+	 * 
+	 * @param index
+	 * @param value
+	 */
+	public void addValueCell(int index, double value) {
+		if (Objects.nonNull(aggregator)) {
+			aggregator.add(index, value);
+		}
+		if (Objects.nonNull(directEngine)) {
+			directEngine.setCell(index, value, directEngine.getCellStyle(ExcelCellType.FLOAT, doWrapText(index)));
+		} else {
+			SpreadSheetUtil.writeCell(dataRow, index, value,
+					styleRegistry.getCellStyle(ExcelCellType.FLOAT, doWrapText(index)));
+			if (measureRow) {
+				widthEstimator.measure(index, value);
+			}
+		}
+	}
+
+	/**
+	 * Add date cell in current row without creating {@link java.util.Date}.
+	 * 
+	 * @param index
+	 * @param epochDay
+	 *            - days since 1970-01-01, see {@link LocalDate#toEpochDay()}
+	 */
+	public void addEpochDayCell(int index, long epochDay) {
+		if (Objects.nonNull(aggregator)) {
+			aggregator.add(index, SpreadSheetUtil.toExcelSerialDay(epochDay));
+		}
+		if (Objects.nonNull(directEngine)) {
+			directEngine.setEpochDay(index, epochDay,
+					directEngine.getCellStyle(ExcelCellType.DATE, doWrapText(index)));
+		} else {
+			SpreadSheetUtil.writeCell(dataRow, index, SpreadSheetUtil.toExcelSerialDay(epochDay),
+					styleRegistry.getCellStyle(ExcelCellType.DATE, doWrapText(index)));
+			if (measureRow) {
+				widthEstimator.measureDate(index);
+			}
+		}
 	}
 	
 	/**
 	 * Add cell for given header in current row.
 	 */
 	public void addValueCell(String header, Object value) {
-		if (dataRow != null) {
+		if (dataRow != null || (Objects.nonNull(directEngine) && directEngine.getRowNumber() > 0)) {
 			if (headers != null && headers.containsKey(header)) {
-				SpreadSheetUtil.writeCell(workbook, dataRow, headers.get(header), value, null, dataFormat, cellStyle, wrapTextHeaders.contains(header), null);
+				addValueCell(headers.get(header).intValue(), value);
 			}
 		} else {
 			throw new RuntimeException("Initialize row");
@@ -339,7 +751,9 @@ public class SpreadSheetManager {
 	}
 
 	/**
-	 * Perform summation on given property
+	 * Perform summation on given property. Summation of whole sheet (lastNrows
+	 * `0`) of template's summation header is written with aggregate of header
+	 * and its value, see {@link SpreadSheetTemplatePlan.Summation}.
 	 */
 	public void summation(String header, int lastNrows) {
 		if (headers != null && headers.containsKey(header)) {
@@ -350,28 +764,150 @@ public class SpreadSheetManager {
 			 * property position start with `0` in program where it start with `1` in excel
 			 */
 			String getExcelColumnIdentity = SpreadSheetUtil.generateCellName(propertyPosition + 1);
+			String range = getExcelColumnIdentity + fromPosition + ":" + getExcelColumnIdentity + (sheetRowCount - 1);
+
+			Aggregate aggregate = lastNrows == 0 && Objects.nonNull(aggregator)
+					? aggregator.getAggregate(propertyPosition)
+					: null;
+			if (Objects.nonNull(aggregate)) {
+				/* AVERAGE(E2:E795) */
+				writeAggregate(propertyPosition, aggregate.getFunction() + "(" + range + ")",
+						aggregator.getSheetValue(propertyPosition));
+				return;
+			}
+
 			/* SUM(E2:E795) */
-			String summationFormula = "";
-			summationFormula = "SUM(" + getExcelColumnIdentity + fromPosition + ":" + getExcelColumnIdentity + ""
-					+ (sheetRowCount - 1) + ")";
+			String summationFormula = "SUM(" + range + ")";
+			if (Objects.nonNull(directEngine)) {
+				directEngine.setFormula(propertyPosition, summationFormula, directEngine.getFormulaStyle());
+			} else {
+				SpreadSheetUtil.writeFormulaCell(dataRow, propertyPosition, summationFormula,
+						styleRegistry.getFormulaStyle());
+			}
+		}
+	}
+
+	/**
+	 * Write summation row at end of sheet.
+	 */
+	private void summationRow() {
+		lastRow();
+		summationBeforeNewSheet.stream().forEach(header -> {
+			summation(header, 0);
+		});
+		if (Objects.nonNull(aggregator)) {
+			/* summation row is last row of sheet */
+			sheetLastDataRows.add(sheetRowCount - 1);
+			aggregator.nextSheet();
+		}
+	}
+
+	/**
+	 * Write aggregate of all sheets after summation row of last sheet. Formula
+	 * refers ranges of every sheet, only value is written when formula would
+	 * exceed Excel limits (255 arguments, 8192 characters).
+	 */
+	private void grandTotalRow() {
+		lastRow();
+		for (String header : summationBeforeNewSheet) {
+			Integer column = headers.get(header);
+			if (Objects.isNull(column) || Objects.isNull(aggregator.getAggregate(column))) {
+				continue;
+			}
+			String columnName = SpreadSheetUtil.generateCellName(column + 1);
+			StringBuilder formula = new StringBuilder(aggregator.getAggregate(column).getFunction()).append('(');
+			int ranges = 0;
+			for (int i = 0; i < sheetLastDataRows.size(); i++) {
+				/* sheet without data rows */
+				if (sheetLastDataRows.get(i) < 2) {
+					continue;
+				}
+				if (ranges++ > 0) {
+					formula.append(',');
+				}
+				formula.append('\'').append(sheetNames.get(i).replace("'", "''")).append("'!").append(columnName)
+						.append(2).append(':').append(columnName).append(sheetLastDataRows.get(i));
+			}
+			formula.append(')');
+			double value = aggregator.getTotalValue(column);
+			if (ranges == 0 || ranges > 255 || formula.length() > 8192) {
+				writeAggregateValue(column, value);
+			} else {
+				writeAggregate(column, formula.toString(), value);
+			}
+		}
+	}
+
+	/**
+	 * Write aggregate in current row as formula with value or only value, see
+	 * {@link SpreadSheetTemplatePlan.Summation.Mode}.
+	 * 
+	 * @param column
+	 * @param formula
+	 * @param value
+	 *            - NaN when value is error (i.e: average without values)
+	 */
+	private void writeAggregate(int column, String formula, double value) {
+		if (templatePlan.getSummation().getMode() == SpreadSheetTemplatePlan.Summation.Mode.VALUE) {
+			writeAggregateValue(column, value);
+		} else if (Objects.nonNull(directEngine)) {
+			directEngine.setFormula(column, formula, value, directEngine.getFormulaStyle());
+		} else {
+			SpreadSheetUtil.writeFormulaCell(dataRow, column, formula, value, styleRegistry.getFormulaStyle());
+			measureAggregate(column, value);
+		}
+	}
+
+	private void writeAggregateValue(int column, double value) {
+		if (Double.isNaN(value)) {
+			return;
+		}
+		if (Objects.nonNull(directEngine)) {
+			directEngine.setCell(column, value, directEngine.getFormulaStyle());
+		} else {
+			SpreadSheetUtil.writeCell(dataRow, column, value, styleRegistry.getFormulaStyle());
+			measureAggregate(column, value);
+		}
+	}
+
+	/**
+	 * Measure aggregate for {@link AutoSizeMode#ESTIMATE}, always measured since
+	 * total is usually wider than values of column. Aggregate is written with
+	 * decimal style so it's measured as decimal.
+	 * 
+	 * @param column
+	 * @param value
+	 */
+	private void measureAggregate(int column, double value) {
+		if (Objects.nonNull(widthEstimator)) {
+			widthEstimator.measure(column, value);
+		}
+	}
 
-			SpreadSheetUtil.writeFormulaCell(workbook, dataRow, propertyPosition, summationFormula, null,
-					HSSFDataFormat.getBuiltinFormat("#,##0.00"));
+	/**
+	 * @param column
+	 * @param value
+	 * @param wrapText
+	 */
+	private void writeDirectCell(int column, Object value, boolean wrapText) {
+		if (value != null) {
+			directEngine.setCell(column, value,
+					directEngine.getCellStyle(SpreadSheetUtil.getValueFormat(value), wrapText));
 		}
 	}
 
 	/**
 	 * Perform required steps to close the workbook for final output.
 	 */
-	private void doClose() {
-		if (summationBeforeNewSheet != null) {
-			lastRow();
-			summationBeforeNewSheet.stream().forEach(header -> {
-				summation(header, 0);
-			});
+	void doClose() {
+		summationRow();
+		if (Objects.nonNull(aggregator) && templatePlan.getSummation().isGrandTotal()) {
+			grandTotalRow();
+		}
+		if (Objects.isNull(directEngine)) {
+			setHeaderColor();
+			autoResizeHeader();
 		}
-		setHeaderColor();
-		autoResizeHeader();
 	}
 
 	/**
@@ -390,9 +926,22 @@ public class SpreadSheetManager {
 	 * @throws IOException
 	 */
 	public void closeWorkbook(FileHolder fileHolder) throws IOException {
+		if (Objects.nonNull(directFileHolder)) {
+			closeDirectEngine(fileHolder);
+			return;
+		}
+		
+		long writeStart = metricsEnabled ? System.nanoTime() : 0;
 		doClose();
 		try (OutputStream objOutputStream = new FileOutputStream(fileHolder);) {
 			workbook.write(objOutputStream);
+			if (metricsEnabled) {
+				long writeNanos = System.nanoTime() - writeStart;
+				long tempFileBytes = workbook instanceof SpreadSheetStreamingWorkbook
+						? ((SpreadSheetStreamingWorkbook) workbook).getTempFileBytes()
+						: -1;
+				completeMetrics(writeNanos, tempFileBytes);
+			}
 		} catch (IOException ex) {
 			logger.log(Level.SEVERE, ex.getMessage(), ex);
 			throw ex;
@@ -404,11 +953,118 @@ public class SpreadSheetManager {
 		}
 	}
 
+	/**
+	 * Release workbook without writing it, i.e: after export failed. Temporary
+	 * files of POI sheets are deleted, output of direct engine is closed and its
+	 * incomplete file is deleted.
+	 */
+	void abortWorkbook() {
+		if (Objects.nonNull(directEngine)) {
+			directEngine.abort();
+			try {
+				Files.deleteIfExists(directFileHolder.toPath());
+			} catch (IOException ex) {
+				logger.log(Level.WARNING, ex.getMessage(), ex);
+			}
+		}
+		if (Objects.nonNull(workbook)) {
+			workbook.dispose();
+			try {
+				workbook.close();
+			} catch (IOException ex) {
+				logger.log(Level.WARNING, ex.getMessage(), ex);
+			}
+		}
+	}
+
+	/**
+	 * Complete file of {@link SpreadSheetDirectEngine}, file is moved when
+	 * different file is provided.
+	 * 
+	 * @param fileHolder
+	 * @throws IOException
+	 */
+	private void closeDirectEngine(FileHolder fileHolder) throws IOException {
+		if (Objects.isNull(directEngine)) {
+			throw new RuntimeException("Add header before closing workbook");
+		}
+		boolean written = false;
+		try {
+			long writeStart = metricsEnabled ? System.nanoTime() : 0;
+			doClose();
+			directEngine.close();
+			if (Objects.nonNull(fileHolder) && !directFileHolder.getAbsoluteFile().equals(fileHolder.getAbsoluteFile())) {
+				Files.move(directFileHolder.toPath(), fileHolder.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			written = true;
+			if (metricsEnabled) {
+				completeMetrics(System.nanoTime() - writeStart, -1);
+			}
+		} catch (IOException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			throw ex;
+		} finally {
+			if (!written) {
+				abortWorkbook();
+			}
+		}
+	}
+
+	/**
+	 * Report metrics after shared workbook is written by its owner.
+	 * 
+	 * @param writeNanos
+	 *            - time to close sheets and write workbook
+	 */
+	void completeSharedWorkbook(long writeNanos) {
+		if (metricsEnabled) {
+			completeMetrics(writeNanos, -1);
+		}
+	}
+
+	/**
+	 * Report metrics of completed export.
+	 * 
+	 * @param writeNanos
+	 * @param tempFileBytes
+	 *            - -1 when workbook doesn't have temporary files
+	 */
+	private void completeMetrics(long writeNanos, long tempFileBytes) {
+		long nanos = System.nanoTime() - metricsStartNanos;
+		metricsListener.phaseCompleted(ExportPhase.FLUSH, flushNanos);
+		metricsListener.phaseCompleted(ExportPhase.WRITE, writeNanos);
+		if (tempFileBytes >= 0) {
+			metricsListener.tempFileBytes(tempFileBytes);
+		}
+		reportMetrics(metricsListener);
+		metricsListener.exportCompleted(dataRowCount, nanos, nanos > 0 ? dataRowCount * 1e9 / nanos : 0);
+	}
+
 	/**
 	 * @param rownum
-	 * @return
+	 * @return row of POI workbook, null for {@link SpreadSheetDirectEngine}
 	 */
 	private Row createRow(int rownum) {
+		if (metricsEnabled) {
+			long start = System.nanoTime();
+			Row row = doCreateRow(rownum);
+			flushNanos += System.nanoTime() - start;
+			return row;
+		}
+		return doCreateRow(rownum);
+	}
+
+	/**
+	 * Create row, previous rows are flushed when they are out of window.
+	 * 
+	 * @param rownum
+	 * @return
+	 */
+	private Row doCreateRow(int rownum) {
+		if (Objects.nonNull(directEngine)) {
+			directEngine.startRow(rownum);
+			return null;
+		}
 		Row row = sheet.createRow(rownum);
 		return row;
 	}
@@ -418,10 +1074,7 @@ public class SpreadSheetManager {
 	 * @return
 	 */
 	private boolean doWrapText(int columnIndex) {
-		if(headerIndex.containsKey(columnIndex)) {
-			return wrapTextHeaders.contains(headerIndex.get(columnIndex));
-		}
-		return false;
+		return columnIndex < wrapTextColumns.length && wrapTextColumns[columnIndex];
 	}
 	
 	public SpreadSheetTemplate getSpreadSheetTemplate() {
@@ -431,4 +1084,18 @@ public class SpreadSheetManager {
 	public int getWorkbookRowCount() {
 		return workbookRowCount;
 	}
+
+	/**
+	 * @return null until first sheet is created
+	 */
+	SXSSFWorkbook getWorkbook() {
+		return workbook;
+	}
+
+	/**
+	 * @return name of sheets created by this manager in order of creation
+	 */
+	List<String> getSheetNames() {
+		return sheetNames;
+	}
 }
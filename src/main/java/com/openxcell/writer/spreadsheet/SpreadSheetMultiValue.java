@@ -0,0 +1,65 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Values of collection property (i.e: `Item.itemPrice.value` of item having
+ * more than one price) in order of collection. Values keep their type (number,
+ * date, ...) and values of nested collection are added as they are evaluated,
+ * so value is never converted to text and back.<br/>
+ * <br/>
+ * Writers write 1st value in row of object and following values in following
+ * rows.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public final class SpreadSheetMultiValue implements Iterable<Object> {
+	private final List<Object> values;
+
+	SpreadSheetMultiValue(int expectedSize) {
+		this.values = new ArrayList<>(expectedSize);
+	}
+
+	/**
+	 * Add value, values of {@link SpreadSheetMultiValue} are added one by one.
+	 *
+	 * @param value
+	 */
+	void add(Object value) {
+		if (value instanceof SpreadSheetMultiValue) {
+			values.addAll(((SpreadSheetMultiValue) value).values);
+		} else {
+			values.add(value);
+		}
+	}
+
+	public int size() {
+		return values.size();
+	}
+
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	/**
+	 * @param index
+	 * @return value at given index or null when index is out of range
+	 */
+	public Object get(int index) {
+		return index < values.size() ? values.get(index) : null;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		return Collections.unmodifiableList(values).iterator();
+	}
+
+	@Override
+	public String toString() {
+		return values.toString();
+	}
+}
@@ -0,0 +1,241 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.json.JSONException;
+
+import com.openxcell.util.BeanPropertyCache;
+import com.openxcell.util.PropertyPath;
+
+/**
+ * Evaluate value of every template property for given object (bean). Evaluation
+ * doesn't touch workbook so it can be performed on any thread, instance itself
+ * is not thread-safe so each thread requires its own evaluator.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetRowEvaluator {
+	private static Logger logger = Logger.getLogger(SpreadSheetRowEvaluator.class.getName());
+
+	/* Property of template which doesn't produce any cell */
+	static final Object NO_CELL = new Object();
+
+	private final SpreadSheetTemplatePlan templatePlan;
+	private final SpreadSheetBeanUtil beanUtil;
+	/* null when template doesn't explode collections */
+	private final SpreadSheetRowExploder rowExploder;
+
+	/* replacements found so far in current row */
+	private Map<String, Object> mapExtendedReplaceProperties;
+
+	public SpreadSheetRowEvaluator(SpreadSheetTemplate sheetTemplate) {
+		this(sheetTemplate, new SpreadSheetBeanUtil());
+	}
+
+	SpreadSheetRowEvaluator(SpreadSheetTemplate sheetTemplate, SpreadSheetBeanUtil beanUtil) {
+		this.templatePlan = Objects.requireNonNull(sheetTemplate, "template can not be null").compile();
+		this.beanUtil = beanUtil;
+		beanUtil.usingTemplate(sheetTemplate);
+		this.rowExploder = Objects.nonNull(templatePlan.getExplode())
+				? new SpreadSheetRowExploder(this, templatePlan)
+				: null;
+	}
+
+	public void setBeanPropertyCache(BeanPropertyCache beanPropertyCache) {
+		beanUtil.setBeanPropertyCache(beanPropertyCache);
+	}
+
+	public BeanPropertyCache getBeanPropertyCache() {
+		return beanUtil.getBeanPropertyCache();
+	}
+
+	/**
+	 * @param value
+	 *            - value from {@link #evaluate(Object, int)}
+	 * @return false when property doesn't produce any cell (i.e: `#ColumnValue`)
+	 */
+	public static boolean isCell(Object value) {
+		return value != NO_CELL;
+	}
+
+	/**
+	 * Evaluate value of each property of template. Collections are not exploded,
+	 * see {@link #evaluate(Object, int, Consumer)}.
+	 *
+	 * @param object
+	 * @param rowNumber
+	 *            - value of `count` property
+	 * @return array of values in same order as properties, value is
+	 *         {@link #NO_CELL} when property doesn't produce a cell
+	 */
+	public Object[] evaluate(Object object, int rowNumber) {
+		Object[] values = new Object[templatePlan.size()];
+		mapExtendedReplaceProperties = null;
+		beanUtil.nextRow();
+
+		for (int i = 0; i < values.length; i++) {
+			SpreadSheetTemplatePlan.Column column = templatePlan.getColumn(i);
+			values[i] = evaluateColumn(column, column.getPath(), object, rowNumber);
+		}
+		return values;
+	}
+
+	/**
+	 * Evaluate rows of object, one row unless template explodes collections
+	 * (see {@link SpreadSheetTemplatePlan.Explode}). Rows are passed to consumer
+	 * as they are evaluated.
+	 *
+	 * @param object
+	 * @param rowNumber
+	 *            - value of `count` property
+	 * @param rows
+	 *            - receives values of each row, same as
+	 *            {@link #evaluate(Object, int)}. Array is reused for next row
+	 *            when collections are exploded, see {@link #keep(Object[])}.
+	 */
+	public void evaluate(Object object, int rowNumber, Consumer<Object[]> rows) {
+		if (Objects.isNull(rowExploder)) {
+			rows.accept(evaluate(object, rowNumber));
+			return;
+		}
+
+		Object[] values = new Object[templatePlan.size()];
+		mapExtendedReplaceProperties = null;
+		beanUtil.nextRow();
+
+		SpreadSheetTemplatePlan.Explode explode = templatePlan.getExplode();
+		for (int i = 0; i < values.length; i++) {
+			/* exploded columns are written by SpreadSheetRowExploder */
+			if (!explode.isExploded(i)) {
+				SpreadSheetTemplatePlan.Column column = templatePlan.getColumn(i);
+				values[i] = evaluateColumn(column, column.getPath(), object, rowNumber);
+			}
+		}
+		rowExploder.explode(object, values, rows);
+	}
+
+	/**
+	 * @param values
+	 *            - row passed to consumer of {@link #evaluate(Object, int, Consumer)}
+	 * @return row which isn't changed by evaluation of next row, copy of row
+	 *         when collections are exploded
+	 */
+	public Object[] keep(Object[] values) {
+		return Objects.isNull(rowExploder) ? values : values.clone();
+	}
+
+	/**
+	 * Evaluate column of exploded collection on its element. `extended_replace`
+	 * found in row of object applies, `extended_replace` of element doesn't
+	 * apply to other elements.
+	 *
+	 * @param column
+	 * @param path
+	 *            - path of column from element
+	 * @param element
+	 * @return value of column, {@link #NO_CELL} when column doesn't produce a cell
+	 */
+	Object evaluateColumn(SpreadSheetTemplatePlan.Column column, PropertyPath path, Object element) {
+		return evaluateColumn(column, path, element, 0, false, true);
+	}
+
+	private Object evaluateColumn(SpreadSheetTemplatePlan.Column column, PropertyPath path, Object object,
+			int rowNumber) {
+		return evaluateColumn(column, path, object, rowNumber, true, false);
+	}
+
+	/**
+	 * @param column
+	 * @param path
+	 *            - path of column from given object
+	 * @param object
+	 * @param rowNumber
+	 * @param extendedReplace
+	 *            - true to record `extended_replace` of column for following
+	 *            columns of row
+	 * @param element
+	 *            - true when object is element of exploded collection, path
+	 *            without segment is value of element itself. Otherwise path
+	 *            without segment (i.e: `Item`) is empty value
+	 * @return value of column, {@link #NO_CELL} when column doesn't produce a cell
+	 */
+	private Object evaluateColumn(SpreadSheetTemplatePlan.Column column, PropertyPath path, Object object,
+			int rowNumber, boolean extendedReplace, boolean element) {
+		if (column.isEmpty()) {
+			return NO_CELL;
+		}
+		if (column.isCount()) {
+			return rowNumber;
+		}
+
+		String columnProperty = column.getProperty();
+		try {
+			Object columnValue;
+			if (Objects.nonNull(mapExtendedReplaceProperties)
+					&& mapExtendedReplaceProperties.containsKey(columnProperty)) {
+				columnValue = mapExtendedReplaceProperties.get(columnProperty);
+			} else {
+				beanUtil.setOriginalColumn(column);
+				if (path.size() > 0) {
+					columnValue = beanUtil.evaluateColumnValue(path, object);
+				} else {
+					columnValue = element ? beanUtil.evaluateElement(object) : "";
+				}
+				columnValue = Objects.nonNull(columnValue) ? columnValue : "";
+				if (extendedReplace) {
+					mapExtendedReplaceProperties = processExtendedReplace(column, columnValue,
+							mapExtendedReplaceProperties);
+				}
+			}
+
+			if (!"#ColumnValue".equalsIgnoreCase(String.valueOf(columnValue))) {
+				return columnValue;
+			}
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException
+				| NoSuchMethodException | SecurityException | JSONException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+		}
+		return NO_CELL;
+	}
+
+	/**
+	 * Elements of collection, see {@link SpreadSheetBeanUtil#evaluateElements}.
+	 *
+	 * @param path
+	 * @param object
+	 * @return
+	 */
+	Collection<?> evaluateElements(PropertyPath path, Object object) {
+		return beanUtil.evaluateElements(path, object);
+	}
+
+	/**
+	 * "ExtendedReplace": { "Item.type": { "value": "Configurable", "replace": [
+	 * {"Item.quantity": ""}, {"Item.threshold": ""} ] } }
+	 *
+	 * @param column
+	 * @param columnValue
+	 * @param mapExtendedReplaceProperties
+	 *            - replacements found so far in current row (nullable)
+	 * @return replacements of current row
+	 */
+	private Map<String, Object> processExtendedReplace(SpreadSheetTemplatePlan.Column column, Object columnValue,
+			Map<String, Object> mapExtendedReplaceProperties) {
+		SpreadSheetTemplatePlan.ExtendedReplace extendedReplace = column.getExtendedReplace();
+		if (Objects.nonNull(extendedReplace) && extendedReplace.matches(columnValue)) {
+			if (mapExtendedReplaceProperties == null) {
+				mapExtendedReplaceProperties = new HashMap<>();
+			}
+			mapExtendedReplaceProperties.putAll(extendedReplace.getReplace());
+		}
+		return mapExtendedReplaceProperties;
+	}
+}
@@ -0,0 +1,294 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.openxcell.util.PropertyPath;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplatePlan.Explode;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplatePlan.Level;
+
+/**
+ * Explode row of object into rows of collections configured in
+ * {@link Explode}. Collections are walked with cursors (one per collection, as
+ * deep as nesting) which write values of current element straight into row, so
+ * each row is passed to consumer as soon as it's complete and no collection is
+ * copied.<br/>
+ * <br/>
+ * Not thread-safe, belongs to {@link SpreadSheetRowEvaluator}.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetRowExploder {
+	private final SpreadSheetRowEvaluator rowEvaluator;
+	private final SpreadSheetTemplatePlan templatePlan;
+	private final Explode.Mode mode;
+	private final boolean repeatParent;
+	private final Node[] nodes;
+
+	/* row being exploded */
+	private Object[] values;
+
+	SpreadSheetRowExploder(SpreadSheetRowEvaluator rowEvaluator, SpreadSheetTemplatePlan templatePlan) {
+		this.rowEvaluator = rowEvaluator;
+		this.templatePlan = templatePlan;
+		this.mode = templatePlan.getExplode().getMode();
+		this.repeatParent = templatePlan.getExplode().isRepeatParent();
+		this.nodes = nodes(templatePlan.getExplode().getLevels());
+	}
+
+	/**
+	 * @param object
+	 * @param values
+	 *            - values of object, columns of collections are empty
+	 * @param rows
+	 */
+	void explode(Object object, Object[] values, Consumer<Object[]> rows) {
+		this.values = values;
+		try {
+			Cursor cursor = cursor(nodes, object);
+			boolean first = true;
+			while (cursor.next()) {
+				if (!first && !repeatParent) {
+					clearParent();
+				}
+				rows.accept(values);
+				first = false;
+			}
+		} finally {
+			this.values = null;
+		}
+	}
+
+	/**
+	 * Clear values of object, which are only written in first row.
+	 */
+	private void clearParent() {
+		Explode explode = templatePlan.getExplode();
+		for (int i = 0; i < values.length; i++) {
+			if (!explode.isExploded(i) && SpreadSheetRowEvaluator.isCell(values[i])) {
+				values[i] = null;
+			}
+		}
+	}
+
+	private Cursor cursor(Node[] nodes, Object parent) {
+		if (nodes.length == 1) {
+			return new LevelCursor(nodes[0], parent);
+		}
+		Cursor[] cursors = new Cursor[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			cursors[i] = new LevelCursor(nodes[i], parent);
+		}
+		return mode == Explode.Mode.ZIP ? new ZipCursor(cursors) : new CartesianCursor(cursors);
+	}
+
+	private Node[] nodes(List<Level> levels) {
+		Node[] array = new Node[levels.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = new Node(levels.get(i));
+		}
+		return array;
+	}
+
+	/**
+	 * {@link Level} resolved for evaluation.
+	 */
+	private final class Node {
+		private final PropertyPath collectionPath;
+		private final SpreadSheetTemplatePlan.Column[] columns;
+		private final PropertyPath[] columnPaths;
+		/* columns of this level and nested levels */
+		private final int[] allColumns;
+		private final Node[] children;
+
+		Node(Level level) {
+			this.collectionPath = level.getCollectionPath();
+			this.columns = new SpreadSheetTemplatePlan.Column[level.getColumnCount()];
+			this.columnPaths = new PropertyPath[level.getColumnCount()];
+			for (int i = 0; i < columns.length; i++) {
+				columns[i] = templatePlan.getColumn(level.getColumn(i));
+				columnPaths[i] = level.getColumnPath(i);
+			}
+			this.children = nodes(level.getChildren());
+
+			List<Integer> indexes = new ArrayList<>();
+			for (SpreadSheetTemplatePlan.Column column : columns) {
+				indexes.add(column.getIndex());
+			}
+			for (Node child : children) {
+				for (int index : child.allColumns) {
+					indexes.add(index);
+				}
+			}
+			this.allColumns = new int[indexes.size()];
+			for (int i = 0; i < allColumns.length; i++) {
+				allColumns[i] = indexes.get(i);
+			}
+		}
+	}
+
+	private abstract static class Cursor {
+		/**
+		 * Move to next row and write its values.
+		 *
+		 * @return false when there is no more row, values are cleared
+		 */
+		abstract boolean next();
+
+		/**
+		 * Start again from first row.
+		 */
+		abstract void reset();
+	}
+
+	/**
+	 * Elements of one collection, each element is repeated for rows of nested
+	 * collections. Empty collection has one row without values.
+	 */
+	private final class LevelCursor extends Cursor {
+		private final Node node;
+		private final Object parent;
+		private Iterator<?> elements;
+		private Cursor children;
+		private int rowCount;
+
+		LevelCursor(Node node, Object parent) {
+			this.node = node;
+			this.parent = parent;
+			reset();
+		}
+
+		@Override
+		void reset() {
+			Collection<?> collection = rowEvaluator.evaluateElements(node.collectionPath, parent);
+			elements = collection.iterator();
+			children = null;
+			rowCount = 0;
+		}
+
+		@Override
+		boolean next() {
+			if (children != null && children.next()) {
+				if (!repeatParent) {
+					clear(node.columns);
+				}
+				return true;
+			}
+			if (elements.hasNext()) {
+				Object element = elements.next();
+				for (int i = 0; i < node.columns.length; i++) {
+					Object value = rowEvaluator.evaluateColumn(node.columns[i], node.columnPaths[i], element);
+					values[node.columns[i].getIndex()] = SpreadSheetRowEvaluator.isCell(value) ? value : null;
+				}
+				if (node.children.length > 0) {
+					children = cursor(node.children, element);
+					children.next();
+				}
+				rowCount++;
+				return true;
+			}
+			clearAll();
+			if (rowCount == 0) {
+				rowCount++;
+				return true;
+			}
+			return false;
+		}
+
+		private void clear(SpreadSheetTemplatePlan.Column[] columns) {
+			for (SpreadSheetTemplatePlan.Column column : columns) {
+				values[column.getIndex()] = null;
+			}
+		}
+
+		private void clearAll() {
+			for (int index : node.allColumns) {
+				values[index] = null;
+			}
+		}
+	}
+
+	/**
+	 * Sibling collections side by side, nth row of each collection in nth row.
+	 */
+	private static final class ZipCursor extends Cursor {
+		private final Cursor[] cursors;
+		private final boolean[] exhausted;
+
+		ZipCursor(Cursor[] cursors) {
+			this.cursors = cursors;
+			this.exhausted = new boolean[cursors.length];
+		}
+
+		@Override
+		boolean next() {
+			boolean hasNext = false;
+			for (int i = 0; i < cursors.length; i++) {
+				if (!exhausted[i]) {
+					if (cursors[i].next()) {
+						hasNext = true;
+					} else {
+						exhausted[i] = true;
+					}
+				}
+			}
+			return hasNext;
+		}
+
+		@Override
+		void reset() {
+			for (int i = 0; i < cursors.length; i++) {
+				cursors[i].reset();
+				exhausted[i] = false;
+			}
+		}
+	}
+
+	/**
+	 * Every combination of rows of sibling collections, last collection changes
+	 * first.
+	 */
+	private static final class CartesianCursor extends Cursor {
+		private final Cursor[] cursors;
+		private boolean started;
+
+		CartesianCursor(Cursor[] cursors) {
+			this.cursors = cursors;
+		}
+
+		@Override
+		boolean next() {
+			if (!started) {
+				started = true;
+				/* every collection has at least one row */
+				for (Cursor cursor : cursors) {
+					cursor.next();
+				}
+				return true;
+			}
+			for (int i = cursors.length - 1; i >= 0; i--) {
+				if (cursors[i].next()) {
+					return true;
+				}
+				if (i == 0) {
+					return false;
+				}
+				cursors[i].reset();
+				cursors[i].next();
+			}
+			return false;
+		}
+
+		@Override
+		void reset() {
+			for (Cursor cursor : cursors) {
+				cursor.reset();
+			}
+			started = false;
+		}
+	}
+}
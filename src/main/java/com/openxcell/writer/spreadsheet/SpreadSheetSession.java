@@ -0,0 +1,109 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+import com.openxcell.io.FileHolder;
+
+/**
+ * Incremental export: append data in batches as it arrives and close the
+ * workbook at the end. Header, sheet change, `count` and summation state is
+ * kept by {@link SpreadSheetBeanManager} between batches so only one batch is
+ * required in memory at a time.<br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * SpreadSheetSession&lt;Order&gt; session = new SpreadSheetBeanManager(template).openSession();
+ * while (page.hasNext()) {
+ * 	session.append(page.next());
+ * }
+ * session.close(fileHolder);
+ * </pre>
+ *
+ * Session is not thread-safe. Rows are streamed, see
+ * {@link SpreadSheetBeanManager#openSession()}. Call {@link #abort()} when
+ * export is abandoned before close.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change stream rows by default, abort session
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetSession<T> {
+	private final SpreadSheetBeanManager spreadSheetBeanManager;
+	private boolean closed = false;
+	private long batchCount = 0;
+
+	SpreadSheetSession(SpreadSheetBeanManager spreadSheetBeanManager) {
+		this.spreadSheetBeanManager = spreadSheetBeanManager;
+	}
+
+	/**
+	 * Write batch of data. Session is aborted when batch can't be written.
+	 *
+	 * @param batch
+	 * @return
+	 */
+	public SpreadSheetSession<T> append(Collection<? extends T> batch) {
+		Objects.requireNonNull(batch, "batch can not be null");
+		requireOpen();
+		try {
+			spreadSheetBeanManager.processRows(batch.iterator());
+		} catch (RuntimeException ex) {
+			abort();
+			throw ex;
+		}
+		batchCount++;
+		return this;
+	}
+
+	/**
+	 * Close the workbook and write it to given file.
+	 *
+	 * @param fileHolder
+	 * @throws IOException
+	 */
+	public void close(FileHolder fileHolder) throws IOException {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		requireOpen();
+		closed = true;
+		spreadSheetBeanManager.closeWorkbook(fileHolder);
+	}
+
+	/**
+	 * Discard the workbook without writing it, temporary files are deleted.
+	 * Does nothing when session is already closed.
+	 */
+	public void abort() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		spreadSheetBeanManager.abortWorkbook();
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	public long getBatchCount() {
+		return batchCount;
+	}
+
+	/**
+	 * @return number of rows written in workbook (including headers)
+	 */
+	public int getWorkbookRowCount() {
+		return spreadSheetBeanManager.getWorkbookRowCount();
+	}
+
+	private void requireOpen() {
+		if (closed) {
+			throw new IllegalStateException("session is already closed");
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.openxcell.io.FileHolder;
+
+/**
+ * Files written by {@link SpreadSheetShardedWriter} in order of data, each
+ * with range of objects it holds (1 based, same as `count` property). Written
+ * next to shards as JSON:
+ *
+ * <pre>
+ * {"row_count":250000,"shards":[
+ *   {"index":1,"file":"orders-00001.xlsx","first_row":1,"last_row":100000,"row_count":100000,"bytes":4521987},
+ *   ...]}
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public final class SpreadSheetShardManifest {
+	private final List<Shard> shards;
+
+	SpreadSheetShardManifest(List<Shard> shards) {
+		this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+	}
+
+	/**
+	 * @return shards in order of data
+	 */
+	public List<Shard> getShards() {
+		return shards;
+	}
+
+	/**
+	 * @return number of objects in all shards
+	 */
+	public long getRowCount() {
+		long rowCount = 0;
+		for (Shard shard : shards) {
+			rowCount += shard.getRowCount();
+		}
+		return rowCount;
+	}
+
+	public JSONObject toJSON() {
+		JSONArray array = new JSONArray();
+		for (Shard shard : shards) {
+			JSONObject object = new JSONObject();
+			object.put("index", shard.getIndex());
+			object.put("file", shard.getFileHolder().getName());
+			object.put("first_row", shard.getFirstRow());
+			object.put("last_row", shard.getLastRow());
+			object.put("row_count", shard.getRowCount());
+			object.put("bytes", shard.getBytes());
+			array.put(object);
+		}
+		JSONObject manifest = new JSONObject();
+		manifest.put("row_count", getRowCount());
+		manifest.put("shards", array);
+		return manifest;
+	}
+
+	/**
+	 * @param fileHolder
+	 * @throws IOException
+	 */
+	void write(FileHolder fileHolder) throws IOException {
+		Files.write(fileHolder.toPath(), toJSON().toString(2).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public String toString() {
+		return toJSON().toString();
+	}
+
+	/**
+	 * Workbook file of manifest.
+	 */
+	public static final class Shard {
+		private final int index;
+		private final FileHolder fileHolder;
+		private final long firstRow;
+		private final long lastRow;
+		private final long bytes;
+
+		Shard(int index, FileHolder fileHolder, long firstRow, long lastRow, long bytes) {
+			this.index = index;
+			this.fileHolder = fileHolder;
+			this.firstRow = firstRow;
+			this.lastRow = lastRow;
+			this.bytes = bytes;
+		}
+
+		/**
+		 * @return 1 based position of shard
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public FileHolder getFileHolder() {
+			return fileHolder;
+		}
+
+		/**
+		 * @return 1 based position of first object in shard
+		 */
+		public long getFirstRow() {
+			return firstRow;
+		}
+
+		/**
+		 * @return 1 based position of last object in shard
+		 */
+		public long getLastRow() {
+			return lastRow;
+		}
+
+		public long getRowCount() {
+			return lastRow - firstRow + 1;
+		}
+
+		/**
+		 * @return size of file
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+	}
+}
@@ -0,0 +1,499 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.iface.Writer;
+import com.openxcell.writer.metrics.ExportMetricsListener;
+
+/**
+ * Split data in multiple workbook files (shards) when file reaches row or size
+ * limit, shards are written concurrently each with its own
+ * {@link SpreadSheetBeanManager}. Sheets of shard hold up to
+ * {@link SpreadSheetManager#MAX_SHEET_ROW_THRESHOLD} rows.<br/>
+ * <br/>
+ * Data is consumed once on calling thread and handed over to shard through
+ * bounded queue, so at most {@link #maxConcurrentShards(int)} shards and
+ * {@link #QUEUE_CAPACITY} objects per shard are in memory whatever the size of
+ * data. Shards are named after given file (`orders.xlsx` =&gt;
+ * `orders-00001.xlsx`, `orders-00002.xlsx`, ...) and listed with their object
+ * range in `orders.manifest.json`, see {@link SpreadSheetShardManifest}.<br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * SpreadSheetShardManifest manifest = new SpreadSheetShardedWriter&lt;Order&gt;(template)
+ * 	.maxRowsPerFile(500000)
+ * 	.maxBytesPerFile(100L * 1024 * 1024)
+ * 	.writeShards(fileHolder, orders);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetShardedWriter<T> implements Writer<List<T>> {
+	private static Logger logger = Logger.getLogger(SpreadSheetShardedWriter.class.getName());
+
+	/* objects waiting in queue of each shard */
+	static final int QUEUE_CAPACITY = 1024;
+
+	/* size estimation, every object of first rows then every Nth object */
+	private static final int SAMPLE_ALL_ROWS = 16;
+	private static final int SAMPLE_INTERVAL = 64;
+	/* `<row r="...">` and `</row>` */
+	private static final int ROW_BYTES = 24;
+	/* `<c r="..." s="..." t="..."><is><t>` and closing tags */
+	private static final int CELL_BYTES = 40;
+
+	/* null can't be queued */
+	private static final Object NULL_OBJECT = new Object();
+
+	private final SpreadSheetTemplate spreadSheetTemplate;
+	private final Executor executor;
+	private int maxRowsPerFile = 1000000;
+	private long maxBytesPerFile = 0;
+	private int maxConcurrentShards = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	private boolean directEngine = false;
+	private long streamMemoryBudget = SpreadSheetWriter.DEFAULT_STREAM_MEMORY_BUDGET;
+	private SpreadSheetManager.AutoSizeMode autoSizeMode = SpreadSheetManager.AutoSizeMode.EXACT;
+	private ExportMetricsListener metricsListener = ExportMetricsListener.NONE;
+
+	/* size estimation, used only on calling thread */
+	private SpreadSheetRowEvaluator sizeEvaluator;
+	private long sampledBytes = 0;
+	private long sampledCount = 0;
+
+	public SpreadSheetShardedWriter(SpreadSheetTemplate spreadSheetTemplate) {
+		this(spreadSheetTemplate, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param spreadSheetTemplate
+	 * @param executor
+	 *            - executor used to write shards concurrently
+	 */
+	public SpreadSheetShardedWriter(SpreadSheetTemplate spreadSheetTemplate, Executor executor) {
+		this.spreadSheetTemplate = Objects.requireNonNull(spreadSheetTemplate, "template can not be null");
+		this.executor = Objects.requireNonNull(executor, "executor can not be null");
+	}
+
+	/**
+	 * Start new file after given number of objects, default is 1000000.
+	 *
+	 * @param maxRowsPerFile
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> maxRowsPerFile(int maxRowsPerFile) {
+		if (maxRowsPerFile <= 0) {
+			throw new RuntimeException("Rows per file must be greater than 0");
+		}
+		this.maxRowsPerFile = maxRowsPerFile;
+		return this;
+	}
+
+	/**
+	 * Start new file before estimated size of sheet XML exceeds given bytes,
+	 * disabled by default. Size is estimated from characters of sampled rows
+	 * before compression so written file is usually several times smaller.
+	 *
+	 * @param maxBytesPerFile
+	 *            - 0 to disable
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> maxBytesPerFile(long maxBytesPerFile) {
+		if (maxBytesPerFile < 0) {
+			throw new RuntimeException("Bytes per file can not be negative");
+		}
+		this.maxBytesPerFile = maxBytesPerFile;
+		return this;
+	}
+
+	/**
+	 * Number of shards written at same time, default is half of available
+	 * processors. Reading data waits when limit is reached.
+	 *
+	 * @param maxConcurrentShards
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> maxConcurrentShards(int maxConcurrentShards) {
+		if (maxConcurrentShards <= 0) {
+			throw new RuntimeException("Concurrent shards must be greater than 0");
+		}
+		this.maxConcurrentShards = maxConcurrentShards;
+		return this;
+	}
+
+	/**
+	 * Write shards with {@link SpreadSheetDirectEngine}, see
+	 * {@link SpreadSheetWriter#useDirectEngine()}.
+	 *
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> useDirectEngine() {
+		this.directEngine = true;
+		return this;
+	}
+
+	/**
+	 * Heap for rows kept in memory by each shard, see
+	 * {@link SpreadSheetWriter#streamMemoryBudget(long)}.
+	 *
+	 * @param streamMemoryBudget
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> streamMemoryBudget(long streamMemoryBudget) {
+		if (streamMemoryBudget <= 0) {
+			throw new RuntimeException("Provide memory budget greater than 0.");
+		}
+		this.streamMemoryBudget = streamMemoryBudget;
+		return this;
+	}
+
+	/**
+	 * @see SpreadSheetWriter#autoSize(SpreadSheetManager.AutoSizeMode)
+	 * @param autoSizeMode
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> autoSize(SpreadSheetManager.AutoSizeMode autoSizeMode) {
+		this.autoSizeMode = Objects.requireNonNull(autoSizeMode, "auto size mode can not be null");
+		return this;
+	}
+
+	/**
+	 * Report metrics of each shard, listener must be thread-safe.
+	 *
+	 * @see SpreadSheetWriter#withMetrics(ExportMetricsListener)
+	 * @param metricsListener
+	 * @return
+	 */
+	public SpreadSheetShardedWriter<T> withMetrics(ExportMetricsListener metricsListener) {
+		this.metricsListener = Objects.requireNonNull(metricsListener, "metrics listener can not be null");
+		return this;
+	}
+
+	@Override
+	public void write(FileHolder fileHolder, List<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		try {
+			writeShards(fileHolder, data.iterator());
+		} catch (IOException e) {
+			logger.log(Level.SEVERE, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Write data consumed object by object from iterator in shards next to given
+	 * file, given file itself is not created. When data or any shard fails,
+	 * every shard is stopped and shards and manifest are deleted before failure
+	 * is thrown.
+	 *
+	 * @param fileHolder
+	 *            - name of shards and manifest
+	 * @param data
+	 * @return manifest, also written next to shards
+	 * @throws IOException
+	 */
+	public SpreadSheetShardManifest writeShards(FileHolder fileHolder, Iterator<T> data) throws IOException {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		Objects.requireNonNull(data, "data can not be null");
+
+		sizeEvaluator = maxBytesPerFile > 0 ? new SpreadSheetRowEvaluator(spreadSheetTemplate) : null;
+		sampledBytes = 0;
+		sampledCount = 0;
+
+		Semaphore permits = new Semaphore(maxConcurrentShards);
+		List<Shard> shards = new ArrayList<>();
+		Shard shard = null;
+		int rowCount = 0;
+		boolean completed = false;
+		try {
+			while (data.hasNext()) {
+				Object object = data.next();
+				long bytes = Objects.nonNull(sizeEvaluator) ? estimateBytes(object, rowCount + 1) : 0;
+				if (Objects.nonNull(shard) && (shard.rowCount >= maxRowsPerFile
+						|| (maxBytesPerFile > 0 && shard.bytes + bytes > maxBytesPerFile))) {
+					shard.close();
+					shard = null;
+				}
+				if (Objects.isNull(shard)) {
+					permits.acquire();
+					shard = new Shard(shards.size() + 1, shardFile(fileHolder, shards.size() + 1), rowCount + 1);
+					shards.add(shard);
+					startShard(shard, permits);
+				}
+				shard.put(object);
+				shard.bytes += bytes;
+				rowCount++;
+			}
+			if (Objects.nonNull(shard)) {
+				shard.close();
+			}
+
+			List<SpreadSheetShardManifest.Shard> manifestShards = new ArrayList<>();
+			for (Shard written : shards) {
+				written.future.join();
+				manifestShards.add(new SpreadSheetShardManifest.Shard(written.index, written.fileHolder,
+						written.firstRow, written.firstRow + written.rowCount - 1, written.fileHolder.length()));
+			}
+
+			SpreadSheetShardManifest manifest = new SpreadSheetShardManifest(manifestShards);
+			manifest.write(manifestFile(fileHolder));
+			completed = true;
+			return manifest;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		} catch (CompletionException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			if (ex.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw new RuntimeException(ex.getCause());
+		} catch (IOException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			throw ex;
+		} finally {
+			if (!completed) {
+				discard(shards, fileHolder);
+			}
+			sizeEvaluator = null;
+		}
+	}
+
+	/**
+	 * Abort shards of failed export (data, shard or manifest failed), wait until
+	 * every started shard ends and delete shards and manifest so no incomplete
+	 * file is left.
+	 *
+	 * @param shards
+	 * @param fileHolder
+	 */
+	private void discard(List<Shard> shards, FileHolder fileHolder) {
+		for (Shard shard : shards) {
+			shard.abort();
+		}
+		for (Shard shard : shards) {
+			if (Objects.nonNull(shard.future)) {
+				try {
+					shard.future.join();
+				} catch (CompletionException | CancellationException ex) {
+					/* aborted or failed, failure is already reported */
+				}
+			}
+			delete(shard.fileHolder);
+		}
+		delete(manifestFile(fileHolder));
+	}
+
+	private static void delete(FileHolder fileHolder) {
+		try {
+			Files.deleteIfExists(fileHolder.toPath());
+		} catch (IOException ex) {
+			logger.log(Level.WARNING, "Unable to delete " + fileHolder, ex);
+		}
+	}
+
+	private void startShard(Shard shard, Semaphore permits) {
+		int rowCountOffset = shard.firstRow - 1;
+		shard.future = CompletableFuture.runAsync(() -> {
+			SpreadSheetBeanManager spreadSheetBeanManager = new SpreadSheetBeanManager(spreadSheetTemplate);
+			try {
+				if (directEngine) {
+					spreadSheetBeanManager.enableDirectEngine(shard.fileHolder);
+				} else {
+					spreadSheetBeanManager.setStreamMemoryBudget(streamMemoryBudget);
+				}
+				spreadSheetBeanManager.setSheetChangeThreshold(SpreadSheetManager.MAX_SHEET_ROW_THRESHOLD);
+				spreadSheetBeanManager.setAutoSizeMode(autoSizeMode);
+				spreadSheetBeanManager.setExportMetricsListener(metricsListener);
+				spreadSheetBeanManager.setRowCountOffset(rowCountOffset);
+				/* throws when shard is aborted, so incomplete shard is never closed as workbook */
+				spreadSheetBeanManager.process(shard.iterator());
+			} catch (IOException ex) {
+				spreadSheetBeanManager.abortWorkbook();
+				throw new UncheckedIOException(ex);
+			} catch (RuntimeException ex) {
+				spreadSheetBeanManager.abortWorkbook();
+				throw ex;
+			}
+			try {
+				spreadSheetBeanManager.closeWorkbook(shard.fileHolder);
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}, executor);
+		shard.future.whenComplete((result, ex) -> permits.release());
+	}
+
+	/**
+	 * @param object
+	 * @param rowNumber
+	 *            - value of `count` property
+	 * @return estimated bytes of sheet XML written for object
+	 */
+	private long estimateBytes(Object object, int rowNumber) {
+		if (rowNumber > SAMPLE_ALL_ROWS && rowNumber % SAMPLE_INTERVAL != 0) {
+			return sampledBytes / sampledCount;
+		}
+		long[] bytes = new long[1];
+		sizeEvaluator.evaluate(object, rowNumber, values -> bytes[0] += estimateRowBytes(values));
+		sampledBytes += bytes[0];
+		sampledCount++;
+		return bytes[0];
+	}
+
+	private static long estimateRowBytes(Object[] values) {
+		long bytes = ROW_BYTES;
+		int rows = 1;
+		for (Object value : values) {
+			if (!SpreadSheetRowEvaluator.isCell(value)) {
+				continue;
+			}
+			if (value instanceof SpreadSheetMultiValue) {
+				SpreadSheetMultiValue multiValue = (SpreadSheetMultiValue) value;
+				for (Object element : multiValue) {
+					bytes += CELL_BYTES + length(element);
+				}
+				rows = Math.max(rows, multiValue.size());
+			} else {
+				bytes += CELL_BYTES + length(value);
+			}
+		}
+		/* values of multi value are written in following rows */
+		return bytes + (long) (rows - 1) * ROW_BYTES;
+	}
+
+	private static int length(Object value) {
+		if (Objects.isNull(value)) {
+			return 0;
+		}
+		return value instanceof CharSequence ? ((CharSequence) value).length() : value.toString().length();
+	}
+
+	private static FileHolder shardFile(FileHolder fileHolder, int index) {
+		String extension = fileHolder.getExtension().isEmpty() ? "xlsx" : fileHolder.getExtension();
+		return new FileHolder(fileHolder.getAbsoluteFile().getParentFile(),
+				String.format("%s-%05d.%s", baseName(fileHolder), index, extension));
+	}
+
+	private static FileHolder manifestFile(FileHolder fileHolder) {
+		return new FileHolder(fileHolder.getAbsoluteFile().getParentFile(), baseName(fileHolder) + ".manifest.json");
+	}
+
+	private static String baseName(FileHolder fileHolder) {
+		String fileName = fileHolder.getName();
+		return fileHolder.getExtension().isEmpty() ? fileName
+				: fileName.substring(0, fileName.length() - fileHolder.getExtension().length() - 1);
+	}
+
+	/**
+	 * Objects of one file, queued by calling thread and consumed by thread
+	 * writing the file.
+	 */
+	private static class Shard {
+		private final int index;
+		private final FileHolder fileHolder;
+		private final int firstRow;
+		private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		/* no more objects are queued */
+		private volatile boolean closed = false;
+		/* export failed, shard must not be completed */
+		private volatile boolean aborted = false;
+		private CompletableFuture<Void> future;
+		private int rowCount = 0;
+		private long bytes = 0;
+
+		private Shard(int index, FileHolder fileHolder, int firstRow) {
+			this.index = index;
+			this.fileHolder = fileHolder;
+			this.firstRow = firstRow;
+		}
+
+		/**
+		 * Queue object, waits while queue is full.
+		 *
+		 * @param object
+		 * @throws InterruptedException
+		 */
+		private void put(Object object) throws InterruptedException {
+			Object element = Objects.isNull(object) ? NULL_OBJECT : object;
+			while (!queue.offer(element, 100, TimeUnit.MILLISECONDS)) {
+				if (future.isDone()) {
+					/* throws failure of shard, queue is never consumed again */
+					future.join();
+					throw new RuntimeException("Shard `" + fileHolder.getName() + "` ended before its data");
+				}
+			}
+			rowCount++;
+		}
+
+		private void close() {
+			closed = true;
+		}
+
+		private void abort() {
+			aborted = true;
+			closed = true;
+			queue.clear();
+		}
+
+		private Iterator<Object> iterator() {
+			return new Iterator<Object>() {
+				private Object next;
+				private boolean ended = false;
+
+				@Override
+				public boolean hasNext() {
+					if (Objects.nonNull(next)) {
+						return true;
+					}
+					try {
+						while (!ended) {
+							if (aborted) {
+								throw new RuntimeException("Shard `" + fileHolder.getName() + "` is aborted");
+							}
+							next = queue.poll(100, TimeUnit.MILLISECONDS);
+							if (Objects.nonNull(next)) {
+								return true;
+							}
+							/* objects are queued before shard is closed */
+							ended = closed && queue.isEmpty();
+						}
+						return false;
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new RuntimeException(ex);
+					}
+				}
+
+				@Override
+				public Object next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					Object object = next;
+					next = null;
+					return object == NULL_OBJECT ? null : object;
+				}
+			};
+		}
+	}
+}
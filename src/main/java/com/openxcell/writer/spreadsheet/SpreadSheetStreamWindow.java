@@ -0,0 +1,96 @@
+package com.openxcell.writer.spreadsheet;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * Size of SXSSF row window (rows kept in memory before they are flushed to
+ * temporary file) derived from heap budget instead of fixed number of rows.
+ * Window starts from {@link #INITIAL_ROW_BYTES} per row and is adjusted as
+ * heap size of written rows is measured, so narrow rows keep many rows in
+ * memory and wide text rows keep few.<br/>
+ * <br/>
+ * Heap size of row is estimated from its cells (objects of SXSSF row/cell and
+ * characters of text) every {@link #SAMPLE_INTERVAL}th row, no row is kept.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetStreamWindow {
+	static final int SAMPLE_INTERVAL = 64;
+	static final int INITIAL_ROW_BYTES = 1024;
+	static final int MIN_WINDOW = 8;
+	static final int MAX_WINDOW = 100000;
+
+	/* SXSSFRow, its cell map and entry in sheet's row map */
+	private static final int ROW_BYTES = 152;
+	/* SXSSFCell, its value and entry in row's cell map */
+	private static final int CELL_BYTES = 112;
+	/* String object and char array header */
+	private static final int TEXT_BYTES = 40;
+	/* window is changed only when it differs by more than 1/4 */
+	private static final int CHANGE_RATIO = 4;
+
+	private final long memoryBudget;
+	private long sampledBytes = 0;
+	private long sampledRows = 0;
+	private int window;
+
+	/**
+	 * @param memoryBudget
+	 *            - bytes of heap for rows of one sheet
+	 */
+	SpreadSheetStreamWindow(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+		this.window = windowOf(INITIAL_ROW_BYTES);
+	}
+
+	/**
+	 * @return rows kept in memory
+	 */
+	int getWindow() {
+		return window;
+	}
+
+	/**
+	 * @param sheetRowNumber
+	 *            - 0 based row number in sheet
+	 * @return true when row should be measured with {@link #sample(Row)}
+	 */
+	static boolean isSampled(int sheetRowNumber) {
+		return sheetRowNumber % SAMPLE_INTERVAL == 0;
+	}
+
+	/**
+	 * Measure completed row.
+	 *
+	 * @param row
+	 * @return true when window is changed, see {@link #getWindow()}
+	 */
+	boolean sample(Row row) {
+		long bytes = ROW_BYTES;
+		for (Cell cell : row) {
+			bytes += CELL_BYTES;
+			CellType cellType = cell.getCellTypeEnum();
+			if (cellType == CellType.STRING) {
+				bytes += TEXT_BYTES + 2L * cell.getStringCellValue().length();
+			} else if (cellType == CellType.FORMULA) {
+				bytes += TEXT_BYTES + 2L * cell.getCellFormula().length();
+			}
+		}
+		sampledBytes += bytes;
+		sampledRows++;
+
+		int sampledWindow = windowOf(sampledBytes / sampledRows);
+		if (Math.abs(sampledWindow - window) * CHANGE_RATIO > window) {
+			window = sampledWindow;
+			return true;
+		}
+		return false;
+	}
+
+	private int windowOf(long rowBytes) {
+		return (int) Math.max(MIN_WINDOW, Math.min(MAX_WINDOW, memoryBudget / Math.max(1, rowBytes)));
+	}
+}
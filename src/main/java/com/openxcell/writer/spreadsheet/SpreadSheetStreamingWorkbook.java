@@ -0,0 +1,84 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+/**
+ * {@link SXSSFWorkbook} which keeps temporary file of each sheet so their size
+ * can be reported to {@link com.openxcell.writer.metrics.ExportMetricsListener}.
+ * Temporary files are written same as {@link SXSSFWorkbook} (compressed when
+ * {@link #isCompressTempFiles()}), workbook doesn't use shared string table.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+final class SpreadSheetStreamingWorkbook extends SXSSFWorkbook {
+	private final List<TempFileSource> sheetDataWriters = new ArrayList<>();
+
+	/**
+	 * @param rowAccessWindowSize
+	 *            - rows kept in memory, -1 for all rows
+	 */
+	SpreadSheetStreamingWorkbook(int rowAccessWindowSize) {
+		super(rowAccessWindowSize);
+	}
+
+	@Override
+	protected SheetDataWriter createSheetDataWriter() throws IOException {
+		if (isCompressTempFiles()) {
+			CompressedSheetDataWriter sheetDataWriter = new CompressedSheetDataWriter();
+			sheetDataWriters.add(sheetDataWriter);
+			return sheetDataWriter;
+		}
+		PlainSheetDataWriter sheetDataWriter = new PlainSheetDataWriter();
+		sheetDataWriters.add(sheetDataWriter);
+		return sheetDataWriter;
+	}
+
+	/**
+	 * @return size of temporary files of all sheets, complete once workbook is
+	 *         written and until it's disposed
+	 */
+	long getTempFileBytes() {
+		long bytes = 0;
+		for (TempFileSource sheetDataWriter : sheetDataWriters) {
+			File tempFile = sheetDataWriter.tempFile();
+			if (tempFile != null) {
+				bytes += tempFile.length();
+			}
+		}
+		return bytes;
+	}
+
+	private interface TempFileSource {
+		File tempFile();
+	}
+
+	private static final class PlainSheetDataWriter extends SheetDataWriter implements TempFileSource {
+		PlainSheetDataWriter() throws IOException {
+			super();
+		}
+
+		@Override
+		public File tempFile() {
+			return getTempFile();
+		}
+	}
+
+	private static final class CompressedSheetDataWriter extends GZIPSheetDataWriter implements TempFileSource {
+		CompressedSheetDataWriter() throws IOException {
+			super();
+		}
+
+		@Override
+		public File tempFile() {
+			return getTempFile();
+		}
+	}
+}
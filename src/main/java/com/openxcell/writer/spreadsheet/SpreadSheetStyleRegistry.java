@@ -0,0 +1,142 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.poi.hssf.usermodel.HSSFDataFormat;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
+
+/**
+ * Cell styles of workbook built only once and shared by cells. Style of data
+ * cell is selected by ({@link ExcelCellType}, wrap text) from precomputed
+ * styles so writing cell never creates, clones or searches style. Header styles
+ * are cached by (text color, background color, bold).
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetStyleRegistry {
+	public static final String HEADER_FONT_NAME = "Times New Roman";
+
+	private final Workbook workbook;
+
+	/* [ExcelCellType.ordinal()][wrapText ? 1 : 0] */
+	private final CellStyle[][] dataCellStyles;
+	private final Map<String, CellStyle> mapHeaderStyles = new HashMap<>();
+	private final Map<String, Font> mapHeaderFonts = new HashMap<>();
+
+	public SpreadSheetStyleRegistry(Workbook workbook) {
+		this.workbook = Objects.requireNonNull(workbook, "workbook can not be null");
+
+		ExcelCellType[] excelCellTypes = ExcelCellType.values();
+		dataCellStyles = new CellStyle[excelCellTypes.length][2];
+		for (ExcelCellType excelCellType : excelCellTypes) {
+			short dataFormat = getDataFormat(excelCellType);
+			dataCellStyles[excelCellType.ordinal()][0] = createCellStyle(dataFormat, false);
+			dataCellStyles[excelCellType.ordinal()][1] = createCellStyle(dataFormat, true);
+		}
+	}
+
+	/**
+	 * @param excelCellType
+	 * @param wrapText
+	 * @return shared style of data cell
+	 */
+	public CellStyle getCellStyle(ExcelCellType excelCellType, boolean wrapText) {
+		return dataCellStyles[excelCellType.ordinal()][wrapText ? 1 : 0];
+	}
+
+	/**
+	 * @return style of summation cell
+	 */
+	public CellStyle getFormulaStyle() {
+		return getCellStyle(ExcelCellType.FLOAT, false);
+	}
+
+	/**
+	 * Get shared header style, created on first use.
+	 *
+	 * @param textColor
+	 *            - nullable
+	 * @param backgroundColor
+	 *            - nullable
+	 * @param bold
+	 * @return
+	 */
+	public CellStyle getHeaderStyle(Short textColor, Short backgroundColor, boolean bold) {
+		String key = textColor + ":" + backgroundColor + ":" + bold;
+		CellStyle cellStyle = mapHeaderStyles.get(key);
+		if (cellStyle == null) {
+			cellStyle = workbook.createCellStyle();
+			cellStyle.setFont(getHeaderFont(textColor, bold));
+			cellStyle.setVerticalAlignment(VerticalAlignment.TOP);
+			if (Objects.nonNull(backgroundColor)) {
+				cellStyle.setFillForegroundColor(backgroundColor);
+				cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+			}
+			mapHeaderStyles.put(key, cellStyle);
+		}
+		return cellStyle;
+	}
+
+	/**
+	 * @param textColor
+	 * @param bold
+	 * @return
+	 */
+	private Font getHeaderFont(Short textColor, boolean bold) {
+		String key = textColor + ":" + bold;
+		Font font = mapHeaderFonts.get(key);
+		if (font == null) {
+			font = workbook.createFont();
+			font.setFontName(HEADER_FONT_NAME);
+			if (Objects.nonNull(textColor)) {
+				font.setColor(textColor);
+			}
+			font.setBold(bold);
+			mapHeaderFonts.put(key, font);
+		}
+		return font;
+	}
+
+	/**
+	 * @param dataFormat
+	 * @param wrapText
+	 * @return
+	 */
+	private CellStyle createCellStyle(short dataFormat, boolean wrapText) {
+		CellStyle cellStyle = workbook.createCellStyle();
+		cellStyle.setDataFormat(dataFormat);
+		cellStyle.setVerticalAlignment(VerticalAlignment.TOP);
+		cellStyle.setWrapText(wrapText);
+		return cellStyle;
+	}
+
+	/**
+	 * @param excelCellType
+	 * @return index of data format
+	 */
+	private short getDataFormat(ExcelCellType excelCellType) {
+		switch (excelCellType) {
+		case INTEGER:
+			return HSSFDataFormat.getBuiltinFormat("#,##0");
+		case FLOAT:
+			return HSSFDataFormat.getBuiltinFormat("#,##0.00");
+		case DATE:
+			return HSSFDataFormat.getBuiltinFormat("m/d/yy");
+		case MONEY:
+			return workbook.createDataFormat().getFormat("$#,##0.00;$#,##0.00");
+		case PERCENTAGE:
+			return HSSFDataFormat.getBuiltinFormat("0.00%");
+		default:
+			return 0;
+		}
+	}
+}
@@ -16,6 +16,18 @@ import com.openxcell.util.StringUtils;
  * @change header comment
  * @author vicky.thakor
  * @since 2018-06-04
+ * 
+ * @change compiled template plan shared by exports
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change explode rows of collections
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change summation aggregates, mode and grand total
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetTemplate {
 	private JSONArray header;
@@ -23,6 +35,7 @@ public class SpreadSheetTemplate {
 	private JSONObject headerBackgroundColor;
 	private JSONArray properties;
 	private JSONArray summationHeaders;
+	private JSONObject summation;
 
 	private JSONObject replace;
 	private JSONObject extendedReplace;
@@ -30,6 +43,10 @@ public class SpreadSheetTemplate {
 	private JSONObject formatCellValue;
 	private JSONArray wrapTextHeaders;
 	private JSONObject headerComment;
+	private JSONObject explode;
+
+	/* Compiled while loading template, see #compile() */
+	private final SpreadSheetTemplatePlan templatePlan;
 
 	public SpreadSheetTemplate(String jsonTemplate) {
 		StringUtils.requireNonNullNotEmpty(jsonTemplate, "template can not be null or empty");
@@ -40,6 +57,7 @@ public class SpreadSheetTemplate {
 			headerBackgroundColor = jsonObject.optJSONObject("header_background_color");
 			properties = jsonObject.optJSONArray("properties");
 			summationHeaders = jsonObject.optJSONArray("summation_headers");
+			summation = jsonObject.optJSONObject("summation");
 
 			replace = jsonObject.optJSONObject("replace");
 			extendedReplace = jsonObject.optJSONObject("extended_replace");
@@ -47,9 +65,11 @@ public class SpreadSheetTemplate {
 			formatCellValue = jsonObject.optJSONObject("format_cell_value");
 			wrapTextHeaders = jsonObject.optJSONArray("wrap_text_headers");
 			headerComment = jsonObject.optJSONObject("header_comments");
+			explode = jsonObject.optJSONObject("explode");
 		} catch (Exception e) {
 			throw e;
 		}
+		templatePlan = new SpreadSheetTemplatePlan(this);
 	}
 
 	public JSONArray getHeader() {
@@ -71,6 +91,16 @@ public class SpreadSheetTemplate {
 	public JSONArray getSummationHeaders() {
 		return summationHeaders;
 	}
+
+	/**
+	 * "summation": { "mode": "formula", "grand_total": true }
+	 * 
+	 * @return
+	 * @see SpreadSheetTemplatePlan.Summation
+	 */
+	public JSONObject getSummation() {
+		return summation;
+	}
 	
 	public JSONObject getReplace() {
 		return replace;
@@ -91,4 +121,28 @@ public class SpreadSheetTemplate {
 	public JSONObject getHeaderComment() {
 		return headerComment;
 	}
+
+	/**
+	 * "explode": { "collections": ["Item.lines", "Item.lines.lots"], "mode":
+	 * "zip", "repeat_parent": false }, properties under collection can't have
+	 * index or filter on collection (`Item.lines[2].sku`)
+	 * 
+	 * @return
+	 * @see SpreadSheetTemplatePlan.Explode
+	 */
+	public JSONObject getExplode() {
+		return explode;
+	}
+
+	/**
+	 * Column indexed {@link SpreadSheetTemplatePlan} of template. Plan is
+	 * compiled while loading template (malformed property is reported by
+	 * constructor), it's immutable so same template (plan) can be shared by
+	 * concurrent exports.
+	 * 
+	 * @return
+	 */
+	public SpreadSheetTemplatePlan compile() {
+		return templatePlan;
+	}
 }
@@ -0,0 +1,582 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.openxcell.util.JSONUtils;
+import com.openxcell.util.PropertyPath;
+import com.openxcell.writer.spreadsheet.SpreadSheetUtil.ExcelCellType;
+
+/**
+ * Compiled form of {@link SpreadSheetTemplate}: one {@link Column} per
+ * property with parsed {@link PropertyPath}, replace map, format type, wrap flag
+ * and extended replace rule resolved up-front, so evaluating a cell never touches {@link JSONObject} or
+ * {@link JSONArray}.<br/>
+ * <br/>
+ * Plan is immutable, thread-safe and shared by all exports of template, see
+ * {@link SpreadSheetTemplate#compile()}.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public final class SpreadSheetTemplatePlan {
+	private final Column[] columns;
+	private final Map<String, Column> mapPropertyColumns;
+	private final Set<String> wrapTextHeaders;
+	private final Explode explode;
+	private final Summation summation;
+
+	SpreadSheetTemplatePlan(SpreadSheetTemplate spreadSheetTemplate) {
+		JSONArray header = spreadSheetTemplate.getHeader();
+		JSONArray properties = spreadSheetTemplate.getProperties();
+
+		wrapTextHeaders = Objects.nonNull(spreadSheetTemplate.getWrapTextHeaders())
+				? Collections.unmodifiableSet(
+						new HashSet<>(JSONUtils.JSONArrayToList(String.class, spreadSheetTemplate.getWrapTextHeaders())))
+				: Collections.<String>emptySet();
+
+		int length = Objects.nonNull(properties) ? properties.length() : 0;
+		columns = new Column[length];
+		Map<String, Column> mapColumns = new HashMap<>();
+		for (int i = 0; i < length; i++) {
+			String property = properties.optString(i).trim();
+			String headerName = Objects.nonNull(header) && i < header.length() ? header.optString(i).trim() : null;
+			columns[i] = new Column(i, headerName, property, spreadSheetTemplate, wrapTextHeaders);
+			mapColumns.putIfAbsent(property, columns[i]);
+		}
+		mapPropertyColumns = Collections.unmodifiableMap(mapColumns);
+
+		explode = Objects.nonNull(spreadSheetTemplate.getExplode())
+				? new Explode(spreadSheetTemplate.getExplode(), columns)
+				: null;
+		summation = Objects.nonNull(spreadSheetTemplate.getSummationHeaders())
+				? new Summation(spreadSheetTemplate.getSummationHeaders(), spreadSheetTemplate.getSummation())
+				: null;
+	}
+
+	/**
+	 * @return number of properties
+	 */
+	public int size() {
+		return columns.length;
+	}
+
+	/**
+	 * @param index
+	 * @return column of property at given index
+	 */
+	public Column getColumn(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * @param property
+	 *            - i.e: Item.sku
+	 * @return first column of given property or null
+	 */
+	public Column getColumn(String property) {
+		return mapPropertyColumns.get(property);
+	}
+
+	/**
+	 * @param header
+	 * @return true when text of header's cells is wrapped
+	 */
+	public boolean isWrapText(String header) {
+		return wrapTextHeaders.contains(header);
+	}
+
+	/**
+	 * @return explode configuration or null when template doesn't explode
+	 *         collections
+	 */
+	public Explode getExplode() {
+		return explode;
+	}
+
+	/**
+	 * @return summation configuration or null when template doesn't have
+	 *         `summation_headers`
+	 */
+	public Summation getSummation() {
+		return summation;
+	}
+
+	/**
+	 * Compiled property of template.
+	 */
+	public static final class Column {
+		private final int index;
+		private final String header;
+		private final String property;
+		private final boolean count;
+		private final PropertyPath path;
+		private final Map<String, Object> replace;
+		private final ExcelCellType formatType;
+		private final boolean wrapText;
+		private final ExtendedReplace extendedReplace;
+
+		private Column(int index, String header, String property, SpreadSheetTemplate spreadSheetTemplate,
+				Set<String> wrapTextHeaders) {
+			this.index = index;
+			this.header = header;
+			this.property = property;
+			this.count = "count".equalsIgnoreCase(property);
+			this.path = property.isEmpty() || count ? null : PropertyPath.parse(property);
+			this.wrapText = Objects.nonNull(header) && wrapTextHeaders.contains(header);
+
+			JSONObject replaceValues = Objects.nonNull(spreadSheetTemplate.getReplace())
+					? spreadSheetTemplate.getReplace().optJSONObject(property)
+					: null;
+			this.replace = Objects.nonNull(replaceValues) ? toMap(replaceValues) : null;
+
+			ExcelCellType excelCellType = null;
+			if (Objects.nonNull(spreadSheetTemplate.getFormatCellValue())
+					&& spreadSheetTemplate.getFormatCellValue().has(property)) {
+				String format = spreadSheetTemplate.getFormatCellValue().optString(property);
+				for (ExcelCellType type : ExcelCellType.values()) {
+					if (type.toString().equalsIgnoreCase(format)) {
+						excelCellType = type;
+					}
+				}
+			}
+			this.formatType = excelCellType;
+
+			JSONObject extendedReplaceValues = Objects.nonNull(spreadSheetTemplate.getExtendedReplace())
+					? spreadSheetTemplate.getExtendedReplace().optJSONObject(property)
+					: null;
+			this.extendedReplace = Objects.nonNull(extendedReplaceValues) ? new ExtendedReplace(extendedReplaceValues)
+					: null;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return header at same index or null
+		 */
+		public String getHeader() {
+			return header;
+		}
+
+		public String getProperty() {
+			return property;
+		}
+
+		/**
+		 * @return true when property is empty, nothing is evaluated
+		 */
+		public boolean isEmpty() {
+			return property.isEmpty();
+		}
+
+		/**
+		 * @return true for `count` property (row number)
+		 */
+		public boolean isCount() {
+			return count;
+		}
+
+		/**
+		 * @return parsed property, null for empty and `count` property
+		 */
+		public PropertyPath getPath() {
+			return path;
+		}
+
+		/**
+		 * @return value => replacement, null when property doesn't have replace
+		 */
+		public Map<String, Object> getReplace() {
+			return replace;
+		}
+
+		/**
+		 * @return type of `format_cell_value` or null
+		 */
+		public ExcelCellType getFormatType() {
+			return formatType;
+		}
+
+		public boolean isWrapText() {
+			return wrapText;
+		}
+
+		/**
+		 * @return rule of `extended_replace` or null
+		 */
+		public ExtendedReplace getExtendedReplace() {
+			return extendedReplace;
+		}
+	}
+
+	/**
+	 * "extended_replace": { "Item.type": { "value": "Configurable", "replace": [
+	 * {"Item.quantity": ""}, {"Item.threshold": ""} ] } }
+	 */
+	public static final class ExtendedReplace {
+		private final String value;
+		/* property => value */
+		private final Map<String, Object> replace;
+
+		private ExtendedReplace(JSONObject extendedReplaceValues) {
+			this.value = extendedReplaceValues.optString("value");
+			Map<String, Object> mapReplace = new LinkedHashMap<>();
+			JSONArray replaceProperties = extendedReplaceValues.optJSONArray("replace");
+			if (Objects.nonNull(replaceProperties)) {
+				for (int i = 0; i < replaceProperties.length(); i++) {
+					JSONObject replaceProperty = replaceProperties.optJSONObject(i);
+					if (Objects.nonNull(replaceProperty)) {
+						Iterator<String> keys = replaceProperty.keys();
+						while (keys.hasNext()) {
+							String key = keys.next();
+							mapReplace.put(key, replaceProperty.optString(key));
+						}
+					}
+				}
+			}
+			this.replace = Collections.unmodifiableMap(mapReplace);
+		}
+
+		/**
+		 * @param columnValue
+		 * @return true when value of column triggers replace
+		 */
+		public boolean matches(Object columnValue) {
+			return value.equals(String.valueOf(columnValue));
+		}
+
+		/**
+		 * @return property => value used for following columns of row
+		 */
+		public Map<String, Object> getReplace() {
+			return replace;
+		}
+	}
+
+	/**
+	 * Row of object is exploded into one row per element of configured
+	 * collections, i.e: order => lines => lot allocations.
+	 * 
+	 * <pre>
+	 * "explode": {
+	 *   "collections": ["Item.lines", "Item.lines.lots", "Item.itemPrice"],
+	 *   "mode": "zip",
+	 *   "repeat_parent": false
+	 * }
+	 * </pre>
+	 * <ul>
+	 * <li>collections - nested collection (`Item.lines.lots`) is exploded for each
+	 * element of its parent (`Item.lines`), property is written in row of deepest
+	 * collection it belongs to</li>
+	 * <li>mode - how sibling collections (`Item.lines`, `Item.itemPrice`) are
+	 * combined: `zip` writes nth element of each collection in same row,
+	 * `cartesian` writes every combination</li>
+	 * <li>repeat_parent - write values of parent (object, line) in every row of
+	 * its children, otherwise only in first row</li>
+	 * </ul>
+	 * Empty collection produces one row without its values.
+	 */
+	public static final class Explode {
+		public enum Mode {
+			ZIP, CARTESIAN
+		}
+
+		private final Mode mode;
+		private final boolean repeatParent;
+		private final List<Level> levels = new ArrayList<>();
+		/* column index => true when column is written by level */
+		private final boolean[] exploded;
+
+		private Explode(JSONObject explodeValues, Column[] columns) {
+			String modeName = explodeValues.optString("mode", Mode.ZIP.name()).trim();
+			try {
+				mode = Mode.valueOf(modeName.toUpperCase());
+			} catch (IllegalArgumentException e) {
+				throw new RuntimeException("Unknown explode mode `" + modeName + "`, use zip or cartesian");
+			}
+			repeatParent = explodeValues.optBoolean("repeat_parent", false);
+
+			JSONArray collections = explodeValues.optJSONArray("collections");
+			if (Objects.isNull(collections) || collections.length() == 0) {
+				throw new RuntimeException("Provide `collections` to explode");
+			}
+			List<PropertyPath> paths = new ArrayList<>();
+			for (int i = 0; i < collections.length(); i++) {
+				PropertyPath path = PropertyPath.parse(collections.optString(i).trim());
+				if (path.size() == 0 || !path.isSimple()) {
+					throw new RuntimeException(
+							"Explode collection `" + path + "` must be property path without index or filter");
+				}
+				paths.add(path);
+			}
+			paths.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+			List<Level> allLevels = new ArrayList<>();
+			for (PropertyPath path : paths) {
+				Level parent = deepest(allLevels, path);
+				if (Objects.nonNull(parent) && parent.depth == path.size()) {
+					throw new RuntimeException("Explode collection `" + path + "` is repeated");
+				}
+				Level level = new Level(path, parent);
+				(Objects.nonNull(parent) ? parent.children : levels).add(level);
+				allLevels.add(level);
+			}
+
+			exploded = new boolean[columns.length];
+			for (Column column : columns) {
+				if (Objects.nonNull(column.getPath())) {
+					Level level = deepest(allLevels, column.getPath());
+					if (Objects.nonNull(level)) {
+						requireWholeCollection(column.getPath(), level);
+						level.columns.add(column.getIndex());
+						level.columnPaths.add(column.getPath().subPath(level.depth));
+						exploded[column.getIndex()] = true;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Column under exploded collection is written for every element, index or
+		 * filter on segments of collection (`Item.lines[2].sku`) can't be applied.
+		 * 
+		 * @param path
+		 * @param level
+		 */
+		private static void requireWholeCollection(PropertyPath path, Level level) {
+			for (int i = 0; i < level.depth; i++) {
+				if (path.getSegment(i).hasIndex() || path.getSegment(i).hasFilter()) {
+					throw new RuntimeException("Property `" + path + "` under explode collection `" + level.path
+							+ "` can't have index or filter on collection");
+				}
+			}
+		}
+
+		private static Level deepest(List<Level> levels, PropertyPath path) {
+			Level deepest = null;
+			for (Level level : levels) {
+				if (path.startsWith(level.path) && (deepest == null || level.depth > deepest.depth)) {
+					deepest = level;
+				}
+			}
+			return deepest;
+		}
+
+		public Mode getMode() {
+			return mode;
+		}
+
+		public boolean isRepeatParent() {
+			return repeatParent;
+		}
+
+		/**
+		 * @return collections of object (top level)
+		 */
+		public List<Level> getLevels() {
+			return Collections.unmodifiableList(levels);
+		}
+
+		/**
+		 * @param index
+		 *            - index of column
+		 * @return true when column is written by one of {@link Level}
+		 */
+		public boolean isExploded(int index) {
+			return exploded[index];
+		}
+	}
+
+	/**
+	 * Exploded collection of {@link Explode}.
+	 */
+	public static final class Level {
+		private final PropertyPath path;
+		/* path of collection from element of parent level (or object) */
+		private final PropertyPath collectionPath;
+		private final int depth;
+		private final List<Integer> columns = new ArrayList<>();
+		/* path of column from element of this level */
+		private final List<PropertyPath> columnPaths = new ArrayList<>();
+		private final List<Level> children = new ArrayList<>();
+
+		private Level(PropertyPath path, Level parent) {
+			this.path = path;
+			this.depth = path.size();
+			this.collectionPath = Objects.nonNull(parent) ? path.subPath(parent.depth) : path;
+		}
+
+		/**
+		 * @return path of collection, i.e: Item.lines.lots
+		 */
+		public PropertyPath getPath() {
+			return path;
+		}
+
+		/**
+		 * @return path of collection from element of parent, i.e: lines.lots
+		 */
+		public PropertyPath getCollectionPath() {
+			return collectionPath;
+		}
+
+		/**
+		 * @return number of columns written by level
+		 */
+		public int getColumnCount() {
+			return columns.size();
+		}
+
+		/**
+		 * @param index
+		 * @return index of nth column of level
+		 */
+		public int getColumn(int index) {
+			return columns.get(index);
+		}
+
+		/**
+		 * @param index
+		 * @return path of nth column from element of level, path without segment
+		 *         when column is element itself
+		 */
+		public PropertyPath getColumnPath(int index) {
+			return columnPaths.get(index);
+		}
+
+		/**
+		 * @return collections nested in this collection
+		 */
+		public List<Level> getChildren() {
+			return Collections.unmodifiableList(children);
+		}
+	}
+
+	/**
+	 * Summation row written at end of each sheet. Header is either name (sum of
+	 * column) or object with aggregate:
+	 * 
+	 * <pre>
+	 * "summation_headers": ["Total", {"header": "Quantity", "aggregate": "avg"}],
+	 * "summation": {
+	 *   "mode": "formula",
+	 *   "grand_total": true
+	 * }
+	 * </pre>
+	 * <ul>
+	 * <li>aggregate - `sum`, `avg`, `min`, `max` or `count` of numbers in
+	 * column</li>
+	 * <li>mode - `formula` writes formula with its value calculated while rows
+	 * are written, so file shows value without recalculation. `value` writes
+	 * only value.</li>
+	 * <li>grand_total - write one more row at end of last sheet with aggregate of
+	 * all sheets</li>
+	 * </ul>
+	 */
+	public static final class Summation {
+		public enum Aggregate {
+			SUM("SUM"), AVG("AVERAGE"), MIN("MIN"), MAX("MAX"), COUNT("COUNT");
+
+			private final String function;
+
+			Aggregate(String function) {
+				this.function = function;
+			}
+
+			/**
+			 * @return name of Excel function
+			 */
+			public String getFunction() {
+				return function;
+			}
+		}
+
+		public enum Mode {
+			FORMULA, VALUE
+		}
+
+		/* header => aggregate, in order of template */
+		private final Map<String, Aggregate> aggregates = new LinkedHashMap<>();
+		private final Mode mode;
+		private final boolean grandTotal;
+
+		private Summation(JSONArray summationHeaders, JSONObject summationValues) {
+			for (int i = 0; i < summationHeaders.length(); i++) {
+				JSONObject aggregateValues = summationHeaders.optJSONObject(i);
+				if (Objects.isNull(aggregateValues)) {
+					aggregates.put(summationHeaders.optString(i).trim(), Aggregate.SUM);
+					continue;
+				}
+				String header = aggregateValues.optString("header").trim();
+				if (header.isEmpty()) {
+					throw new RuntimeException("Provide `header` of summation " + aggregateValues);
+				}
+				aggregates.put(header, valueOf(Aggregate.class,
+						aggregateValues.optString("aggregate", Aggregate.SUM.name()), "summation aggregate"));
+			}
+
+			mode = Objects.nonNull(summationValues)
+					? valueOf(Mode.class, summationValues.optString("mode", Mode.FORMULA.name()), "summation mode")
+					: Mode.FORMULA;
+			grandTotal = Objects.nonNull(summationValues) && summationValues.optBoolean("grand_total", false);
+		}
+
+		private static <E extends Enum<E>> E valueOf(Class<E> type, String name, String description) {
+			try {
+				return Enum.valueOf(type, name.trim().toUpperCase());
+			} catch (IllegalArgumentException e) {
+				List<String> names = new ArrayList<>();
+				for (E constant : type.getEnumConstants()) {
+					names.add(constant.name().toLowerCase());
+				}
+				throw new RuntimeException("Unknown " + description + " `" + name + "`, use " + names);
+			}
+		}
+
+		/**
+		 * @return summation headers in order of template
+		 */
+		public Set<String> getHeaders() {
+			return Collections.unmodifiableSet(aggregates.keySet());
+		}
+
+		/**
+		 * @param header
+		 * @return aggregate of header or null when header is not summed
+		 */
+		public Aggregate getAggregate(String header) {
+			return aggregates.get(header);
+		}
+
+		public Mode getMode() {
+			return mode;
+		}
+
+		public boolean isGrandTotal() {
+			return grandTotal;
+		}
+	}
+
+	private static Map<String, Object> toMap(JSONObject jsonObject) {
+		Map<String, Object> map = new HashMap<>();
+		Iterator<String> keys = jsonObject.keys();
+		while (keys.hasNext()) {
+			String key = keys.next();
+			map.put(key, jsonObject.opt(key));
+		}
+		return Collections.unmodifiableMap(map);
+	}
+}
@@ -24,9 +24,19 @@ import com.openxcell.util.StringUtils;
 /**
  * @author vicky.thakor
  * @since 2018-05-15
+ * 
+ * @change write primitive number and date cells without boxing
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change formula cell with cached value
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetUtil {
 	private static final String strABCD = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+	/* days between 1899-12-30 and 1970-01-01 */
+	private static final long EPOCH_SERIAL = 25569L;
 
 	public enum ExcelCellType {
 		TEXT, INTEGER, FLOAT, DATE, MONEY, PERCENTAGE
@@ -77,6 +87,143 @@ public class SpreadSheetUtil {
 		}
 	}
 	
+	/**
+	 * Create formula cell with shared style.
+	 * 
+	 * @param row
+	 * @param column
+	 * @param formula
+	 * @param cellStyle
+	 */
+	public static void writeFormulaCell(Row row, int column, String formula, CellStyle cellStyle) {
+		Cell cell = row.createCell(column);
+		cell.setCellFormula(formula);
+		cell.setCellStyle(cellStyle);
+	}
+
+	/**
+	 * Create formula cell with its calculated value, so value is shown without
+	 * recalculation.
+	 * 
+	 * @param row
+	 * @param column
+	 * @param formula
+	 * @param cachedValue
+	 *            - NaN to leave value for recalculation
+	 * @param cellStyle
+	 */
+	public static void writeFormulaCell(Row row, int column, String formula, double cachedValue,
+			CellStyle cellStyle) {
+		Cell cell = row.createCell(column);
+		cell.setCellFormula(formula);
+		if (!Double.isNaN(cachedValue) && !Double.isInfinite(cachedValue)) {
+			cell.setCellValue(cachedValue);
+		}
+		cell.setCellStyle(cellStyle);
+	}
+
+	/**
+	 * Write value of cell using style from {@link SpreadSheetStyleRegistry},
+	 * style is selected by type of value and wrap text. No style is created or
+	 * modified.
+	 * 
+	 * @param workbook
+	 * @param row
+	 * @param column
+	 * @param value
+	 * @param styleRegistry
+	 * @param wrapText
+	 * @param cellComment
+	 */
+	public static void writeCell(Workbook workbook, Row row, int column, Object value,
+			SpreadSheetStyleRegistry styleRegistry, boolean wrapText, String cellComment) {
+		if (value == null)
+			return;
+		ExcelCellType valueFormat = getValueFormat(value);
+		writeCell(workbook, row, column, value, valueFormat, styleRegistry.getCellStyle(valueFormat, wrapText),
+				cellComment);
+	}
+
+	/**
+	 * Write number cell without boxing or type detection.
+	 * 
+	 * @param row
+	 * @param column
+	 * @param value
+	 * @param cellStyle
+	 */
+	public static void writeCell(Row row, int column, double value, CellStyle cellStyle) {
+		Cell cell = row.createCell(column, CellType.NUMERIC);
+		cell.setCellStyle(cellStyle);
+		cell.setCellValue(value);
+	}
+
+	/**
+	 * Convert date to Excel serial date (days since 1899-12-30). Excel treats
+	 * 1900 as leap year so dates before 1900-03-01 are shifted by one day, same
+	 * as POI.
+	 * 
+	 * @param epochDay
+	 *            - days since 1970-01-01
+	 * @return serial date, -1 when date is before 1900-01-01
+	 */
+	public static long toExcelSerialDay(long epochDay) {
+		long days = epochDay + EPOCH_SERIAL;
+		/* serial 60 is 1900-02-29 */
+		if (days < 61) {
+			days--;
+		}
+		return days < 1 ? -1 : days;
+	}
+
+	/**
+	 * Write value of cell with given shared style (i.e: header).
+	 * 
+	 * @param workbook
+	 * @param row
+	 * @param column
+	 * @param value
+	 * @param cellStyle
+	 * @param cellComment
+	 */
+	public static void writeCell(Workbook workbook, Row row, int column, Object value, CellStyle cellStyle,
+			String cellComment) {
+		if (value == null)
+			return;
+		writeCell(workbook, row, column, value, getValueFormat(value), cellStyle, cellComment);
+	}
+
+	/**
+	 * @param workbook
+	 * @param row
+	 * @param column
+	 * @param value
+	 * @param valueFormat
+	 * @param cellStyle
+	 * @param cellComment
+	 */
+	private static void writeCell(Workbook workbook, Row row, int column, Object value, ExcelCellType valueFormat,
+			CellStyle cellStyle, String cellComment) {
+		Cell cell = row.createCell(column);
+		cell.setCellStyle(cellStyle);
+		cellComment(workbook, row, cell, cellComment);
+
+		switch (valueFormat) {
+		case INTEGER:
+		case FLOAT:
+		case MONEY:
+		case PERCENTAGE:
+			cell.setCellValue(((Number) value).doubleValue());
+			break;
+		case DATE:
+			cell.setCellValue((Date) value);
+			break;
+		default:
+			cell.setCellValue(value.toString());
+			break;
+		}
+	}
+
 	/**
 	 * Write value of cell.<br/>
 	 * <br/>
@@ -207,7 +354,7 @@ public class SpreadSheetUtil {
 	 * 			Object}
 	 * @return {@link ExcelCellType}
 	 */
-	private static ExcelCellType getValueFormat(Object value) {
+	static ExcelCellType getValueFormat(Object value) {
 		if (value instanceof Float || value instanceof Double) {
 			return ExcelCellType.FLOAT;
 		} else if (value instanceof Integer || value instanceof Long) {
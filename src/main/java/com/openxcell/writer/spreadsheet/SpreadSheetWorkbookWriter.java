@@ -0,0 +1,241 @@
+package com.openxcell.writer.spreadsheet;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.util.StringUtils;
+
+/**
+ * Write multiple unrelated datasets (i.e: orders, items, shipments) in one
+ * workbook, each dataset with its own {@link SpreadSheetTemplate} and named
+ * sheet(s). Datasets are processed concurrently, evaluation of rows runs in
+ * parallel while rows are written in workbook one dataset chunk at a time.
+ * Sheets are ordered as datasets are registered.<br/>
+ * <br/>
+ * Example:
+ *
+ * <pre>
+ * new SpreadSheetWorkbookWriter()
+ * 	.addDataset("Orders", orderTemplate, orders)
+ * 	.addDataset("Items", itemTemplate, items)
+ * 	.write(fileHolder);
+ * </pre>
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change row window of each dataset sized from {@link #streamMemoryBudget(long)}
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change dataset name can't collide with rollover sheet of other dataset
+ * @author vicky.thakor
+ * @since 2026-10-18
+ * 
+ * @change metrics of datasets reported after workbook is written
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class SpreadSheetWorkbookWriter {
+	private static Logger logger = Logger.getLogger(SpreadSheetWorkbookWriter.class.getName());
+
+	private final Executor executor;
+	private final SXSSFWorkbook workbook;
+	private final SpreadSheetStyleRegistry styleRegistry;
+	private final List<Dataset> datasets = new ArrayList<>();
+	private final Set<String> sheetNames = new HashSet<>();
+	private long streamMemoryBudget = SpreadSheetWriter.DEFAULT_STREAM_MEMORY_BUDGET;
+
+	public SpreadSheetWorkbookWriter() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param executor
+	 *            - executor used to process datasets concurrently
+	 */
+	public SpreadSheetWorkbookWriter(Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "executor can not be null");
+		this.workbook = new SXSSFWorkbook(-1);
+		this.styleRegistry = new SpreadSheetStyleRegistry(workbook);
+	}
+
+	/**
+	 * Keep rows of each dataset's sheet in given bytes of heap, rest is flushed
+	 * to compressed temporary file. Default is
+	 * {@link SpreadSheetWriter#DEFAULT_STREAM_MEMORY_BUDGET}, see
+	 * {@link SpreadSheetManager#setStreamMemoryBudget(long)}.
+	 * 
+	 * @param streamMemoryBudget
+	 * @return
+	 */
+	public SpreadSheetWorkbookWriter streamMemoryBudget(long streamMemoryBudget) {
+		if (streamMemoryBudget <= 0) {
+			throw new RuntimeException("Provide memory budget greater than 0.");
+		}
+		this.streamMemoryBudget = streamMemoryBudget;
+		for (Dataset dataset : datasets) {
+			dataset.spreadSheetBeanManager.setStreamMemoryBudget(streamMemoryBudget);
+		}
+		return this;
+	}
+
+	/**
+	 * Register dataset written in sheet of given name.
+	 *
+	 * @param sheetName
+	 * @param template
+	 * @param data
+	 * @return
+	 */
+	public <T> SpreadSheetWorkbookWriter addDataset(String sheetName, SpreadSheetTemplate template, List<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		return addDataset(sheetName, template, data.iterator());
+	}
+
+	/**
+	 * Register dataset consumed row by row from iterator. Name can't be same as
+	 * sheet of other dataset after rollover, i.e: `Orders 2` with `Orders`.
+	 *
+	 * @param sheetName
+	 * @param template
+	 * @param data
+	 * @return
+	 */
+	public <T> SpreadSheetWorkbookWriter addDataset(String sheetName, SpreadSheetTemplate template,
+			Iterator<T> data) {
+		StringUtils.requireNonNullNotEmpty(sheetName, "sheet name can not be null or empty");
+		Objects.requireNonNull(template, "template can not be null");
+		Objects.requireNonNull(data, "data can not be null");
+		if (!sheetNames.add(sheetName.toLowerCase())) {
+			throw new RuntimeException("Dataset `" + sheetName + "` is already registered");
+		}
+		for (Dataset dataset : datasets) {
+			if (isRolloverSheet(sheetName, dataset.sheetName) || isRolloverSheet(dataset.sheetName, sheetName)) {
+				throw new RuntimeException(
+						"Sheet `" + sheetName + "` collides with sheets of dataset `" + dataset.sheetName + "`");
+			}
+		}
+
+		Dataset dataset = new Dataset();
+		dataset.sheetName = sheetName;
+		dataset.spreadSheetBeanManager = new SpreadSheetBeanManager(template, workbook, sheetName,
+				styleRegistry);
+		dataset.spreadSheetBeanManager.setStreamMemoryBudget(streamMemoryBudget);
+		dataset.iterator = data;
+		datasets.add(dataset);
+		return this;
+	}
+
+	/**
+	 * Get manager of dataset, i.e: to configure object cache or parallel
+	 * evaluation of rows.
+	 *
+	 * @param sheetName
+	 * @return
+	 */
+	public SpreadSheetBeanManager getSpreadSheetBeanManager(String sheetName) {
+		for (Dataset dataset : datasets) {
+			if (dataset.sheetName.equalsIgnoreCase(sheetName)) {
+				return dataset.spreadSheetBeanManager;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Process all datasets concurrently and write workbook in given file.
+	 *
+	 * @param fileHolder
+	 * @throws IOException
+	 */
+	public void write(FileHolder fileHolder) throws IOException {
+		Objects.requireNonNull(fileHolder, "file can not be null");
+		try {
+			/* Headers are added in order of datasets so first sheet of each dataset is in order */
+			for (Dataset dataset : datasets) {
+				dataset.spreadSheetBeanManager.processHeader();
+			}
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (Dataset dataset : datasets) {
+				futures.add(CompletableFuture.runAsync(
+						() -> dataset.spreadSheetBeanManager.processRows(dataset.iterator), executor));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+
+			long writeStart = System.nanoTime();
+			int sheetPosition = 0;
+			for (Dataset dataset : datasets) {
+				dataset.spreadSheetBeanManager.doClose();
+				for (String sheetName : dataset.spreadSheetBeanManager.getSheetNames()) {
+					workbook.setSheetOrder(sheetName, sheetPosition++);
+				}
+			}
+			workbook.setActiveSheet(0);
+			workbook.setSelectedTab(0);
+
+			try (OutputStream objOutputStream = new FileOutputStream(fileHolder);) {
+				workbook.write(objOutputStream);
+			}
+			long writeNanos = System.nanoTime() - writeStart;
+			for (Dataset dataset : datasets) {
+				dataset.spreadSheetBeanManager.completeSharedWorkbook(writeNanos);
+			}
+		} catch (CompletionException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			throw new RuntimeException(ex.getCause());
+		} catch (IOException ex) {
+			logger.log(Level.SEVERE, ex.getMessage(), ex);
+			throw ex;
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+
+	/**
+	 * Dataset is rolled over to sheets `name 2`, `name 3`, ... see
+	 * {@link SpreadSheetManager#buildWorkbook(SpreadSheetTemplate, SXSSFWorkbook, String, SpreadSheetStyleRegistry)}
+	 * 
+	 * @param sheetName
+	 * @param datasetSheetName
+	 * @return true when sheet of given name can be created by rollover of dataset
+	 */
+	private static boolean isRolloverSheet(String sheetName, String datasetSheetName) {
+		int length = datasetSheetName.length();
+		if (sheetName.length() < length + 2 || sheetName.charAt(length) != ' '
+				|| !sheetName.regionMatches(true, 0, datasetSheetName, 0, length)) {
+			return false;
+		}
+		String number = sheetName.substring(length + 1);
+		for (int i = 0; i < number.length(); i++) {
+			if (number.charAt(i) < '0' || number.charAt(i) > '9') {
+				return false;
+			}
+		}
+		return number.charAt(0) != '0' && !"1".equals(number);
+	}
+
+	private static class Dataset {
+		private String sheetName;
+		private SpreadSheetBeanManager spreadSheetBeanManager;
+		private Iterator<?> iterator;
+	}
+}
@@ -1,35 +1,163 @@
 package com.openxcell.writer.spreadsheet;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import com.openxcell.io.FileHolder;
 import com.openxcell.writer.iface.Writer;
+import com.openxcell.writer.metrics.ExportMetricsListener;
 
 /**
  * @author vicky.thakor
  * @since 2018-05-15
+ * 
+ * @change stream with row window sized from {@link #DEFAULT_STREAM_MEMORY_BUDGET}
+ * @author vicky.thakor
+ * @since 2026-10-18
  */
 public class SpreadSheetWriter<T> implements Writer<List<T>> {
 
+	/**
+	 * Heap for rows of sheet kept in memory while writing, see
+	 * {@link #streamMemoryBudget(long)}.
+	 */
+	public static final long DEFAULT_STREAM_MEMORY_BUDGET = 8L * 1024 * 1024;
+
 	private static Logger logger = Logger.getLogger(SpreadSheetWriter.class.getName());
 	private SpreadSheetBeanManager spreadSheetBeanManager;
+	private boolean directEngine = false;
 
 	public SpreadSheetWriter(SpreadSheetTemplate spreadSheetTemplate) {
 		Objects.requireNonNull(spreadSheetTemplate, "template can not be null");
 		spreadSheetBeanManager = new SpreadSheetBeanManager(spreadSheetTemplate);
+		spreadSheetBeanManager.setStreamMemoryBudget(DEFAULT_STREAM_MEMORY_BUDGET);
+	}
+
+	/**
+	 * Keep rows of sheet in given bytes of heap, rest is flushed to compressed
+	 * temporary file. Default is {@link #DEFAULT_STREAM_MEMORY_BUDGET}, see
+	 * {@link SpreadSheetManager#setStreamMemoryBudget(long)}.
+	 * 
+	 * @param memoryBudget
+	 * @return
+	 */
+	public SpreadSheetWriter<T> streamMemoryBudget(long memoryBudget) {
+		spreadSheetBeanManager.setStreamMemoryBudget(memoryBudget);
+		return this;
+	}
+
+	/**
+	 * Evaluate rows in parallel, see
+	 * {@link SpreadSheetBeanManager#enableParallel(Executor, int)}
+	 * 
+	 * @param executor
+	 * @param chunkSize
+	 * @return
+	 */
+	public SpreadSheetWriter<T> enableParallel(Executor executor, int chunkSize) {
+		spreadSheetBeanManager.enableParallel(executor, chunkSize);
+		return this;
+	}
+
+	/**
+	 * Stream sheet XML straight into file instead of POI, see
+	 * {@link SpreadSheetManager#enableDirectEngine(FileHolder)}. Suitable for flat
+	 * exports of millions of rows.
+	 * 
+	 * @return
+	 */
+	public SpreadSheetWriter<T> useDirectEngine() {
+		this.directEngine = true;
+		return this;
+	}
+
+	/**
+	 * Set how width of columns is calculated, see
+	 * {@link SpreadSheetManager#setAutoSizeMode(SpreadSheetManager.AutoSizeMode)}.
+	 * 
+	 * @param autoSizeMode
+	 * @return
+	 */
+	public SpreadSheetWriter<T> autoSize(SpreadSheetManager.AutoSizeMode autoSizeMode) {
+		spreadSheetBeanManager.setAutoSizeMode(autoSizeMode);
+		return this;
+	}
+
+	/**
+	 * Report metrics of export, see
+	 * {@link SpreadSheetManager#setExportMetricsListener(ExportMetricsListener)}.
+	 * 
+	 * @param metricsListener
+	 * @return
+	 */
+	public SpreadSheetWriter<T> withMetrics(ExportMetricsListener metricsListener) {
+		spreadSheetBeanManager.setExportMetricsListener(metricsListener);
+		return this;
 	}
 
 	@Override
 	public void write(FileHolder fileHolder, List<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, data.iterator());
+	}
+
+	/**
+	 * Write data consumed row by row from stream. Stream is not closed, caller
+	 * owns the stream.
+	 * 
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Stream<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, data.iterator());
+	}
+
+	/**
+	 * Write data consumed row by row from spliterator.
+	 * 
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Spliterator<T> data) {
+		Objects.requireNonNull(data, "data can not be null");
+		write(fileHolder, Spliterators.iterator(data));
+	}
+
+	/**
+	 * Write data consumed row by row from iterator so complete data is never
+	 * required in memory. i.e: Iterator over database cursor.
+	 * 
+	 * @param fileHolder
+	 * @param data
+	 */
+	public void write(FileHolder fileHolder, Iterator<T> data) {
 		Objects.requireNonNull(fileHolder, "file can not be null");
 		Objects.requireNonNull(data, "data can not be null");
 		
-		spreadSheetBeanManager.enableStream(true, 1);
-		spreadSheetBeanManager.process(data);
+		try {
+			if (directEngine) {
+				spreadSheetBeanManager.enableDirectEngine(fileHolder);
+			}
+			spreadSheetBeanManager.process(data);
+		} catch (IOException e) {
+			spreadSheetBeanManager.abortWorkbook();
+			logger.log(Level.SEVERE, e.getMessage(), e);
+			return;
+		} catch (RuntimeException e) {
+			/* no incomplete file is left */
+			spreadSheetBeanManager.abortWorkbook();
+			throw e;
+		}
+
 		try {
 			spreadSheetBeanManager.closeWorkbook(fileHolder);
 		} catch (IOException e) {
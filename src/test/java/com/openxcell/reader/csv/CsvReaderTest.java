@@ -0,0 +1,192 @@
+package com.openxcell.reader.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.openxcell.io.FileHolder;
+import com.openxcell.writer.csv.CsvWriter;
+import com.openxcell.writer.iface.ReaderWriterBean;
+import com.openxcell.writer.spreadsheet.SpreadSheetTemplate;
+
+/**
+ * Records of {@link CsvReader} must not depend on chunk size: chunks are split
+ * on record boundary by one state machine and parsed by another, so every case
+ * is read with chunk sizes which split the record at each byte.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class CsvReaderTest {
+	private static final String TEMPLATE = "{\"header\":[\"A\",\"B\",\"C\"],\"properties\":[\"Row.a\",\"Row.b\",\"Row.c\"]}";
+	private static final byte[] BYTE_ORDER_MARK = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+
+	private Path file;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() throws IOException {
+		file = Files.createTempFile("csv-reader", ".csv");
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		executor.shutdownNow();
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void quotedLineBreakAcrossChunkBoundary() throws IOException {
+		StringBuilder csv = new StringBuilder("A,B,C\n");
+		List<List<String>> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			csv.append(i).append(",\"first line\nsecond\r\nthird ").append(i).append("\",end\n");
+			expected.add(Arrays.asList(String.valueOf(i), "first line\nsecond\r\nthird " + i, "end"));
+		}
+		write(csv.toString().getBytes(StandardCharsets.UTF_8));
+
+		assertForAllChunkSizes(expected, 1, 80);
+	}
+
+	@Test
+	public void lineBreakIsCrlf() throws IOException {
+		write("A,B,C\r\n1,2,3\r\n4,\"5\",6\r\n\r\n7,8,\"9\"\r\n".getBytes(StandardCharsets.UTF_8));
+
+		assertForAllChunkSizes(Arrays.asList(Arrays.asList("1", "2", "3"), Arrays.asList("4", "5", "6"),
+				Arrays.asList("7", "8", "9")), 1, 40);
+	}
+
+	@Test
+	public void lastRecordWithoutLineBreak() throws IOException {
+		write("A,B,C\n1,2,3\n4,5,6".getBytes(StandardCharsets.UTF_8));
+
+		assertForAllChunkSizes(Arrays.asList(Arrays.asList("1", "2", "3"), Arrays.asList("4", "5", "6")), 1, 20);
+	}
+
+	@Test
+	public void escapedQuotes() throws IOException {
+		write("A,B,C\n\"say \"\"hi\"\"\",\"a,b\",\"x\"\"\ny\"\n\"\"\"\",plain,\"\"\n"
+				.getBytes(StandardCharsets.UTF_8));
+
+		assertForAllChunkSizes(Arrays.asList(Arrays.asList("say \"hi\"", "a,b", "x\"\ny"),
+				Arrays.asList("\"", "plain", null)), 1, 40);
+	}
+
+	@Test
+	public void byteOrderMark() throws IOException {
+		byte[] csv = "A,B,C\n1,2,3\n".getBytes(StandardCharsets.UTF_8);
+		byte[] bytes = new byte[BYTE_ORDER_MARK.length + csv.length];
+		System.arraycopy(BYTE_ORDER_MARK, 0, bytes, 0, BYTE_ORDER_MARK.length);
+		System.arraycopy(csv, 0, bytes, BYTE_ORDER_MARK.length, csv.length);
+		write(bytes);
+
+		/* byte order mark is not part of first header */
+		assertForAllChunkSizes(Arrays.asList(Arrays.asList("1", "2", "3")), 1, 20);
+	}
+
+	@Test
+	public void recordBiggerThanChunk() throws IOException {
+		char[] big = new char[10000];
+		Arrays.fill(big, 'x');
+		String value = new String(big);
+		write(("A,B,C\n1,2,3\n4,\"" + value + "\n" + value + "\",6\n7,8,9\n").getBytes(StandardCharsets.UTF_8));
+
+		List<List<String>> expected = Arrays.asList(Arrays.asList("1", "2", "3"),
+				Arrays.asList("4", value + "\n" + value, "6"), Arrays.asList("7", "8", "9"));
+		assertEquals(expected, read(16));
+		assertEquals(expected, read(1));
+	}
+
+	@Test
+	public void recordsInOrderOfFile() throws IOException {
+		StringBuilder csv = new StringBuilder("A,B,C\n");
+		List<List<String>> expected = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			csv.append(i).append(",\"b\n").append(i).append("\",c\n");
+			expected.add(Arrays.asList(String.valueOf(i), "b\n" + i, "c"));
+		}
+		write(csv.toString().getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(expected, read(64));
+		assertEquals(expected, read(CsvReader.DEFAULT_CHUNK_SIZE));
+	}
+
+	@Test
+	public void readRecordsOfCsvWriter() throws IOException {
+		List<Row> rows = Arrays.asList(new Row("comma, quote \" and\r\nbreak", "\"", "\u00fcn\u00efc\u00f6d\u00e9"),
+				new Row("plain", "", "tail\n"), new Row("\"\"", "a\"\"b", "x"));
+		new CsvWriter<Row>(new SpreadSheetTemplate(TEMPLATE)).setByteOrderMark(true)
+				.write(new FileHolder(file.toString()), rows);
+
+		List<List<String>> expected = new ArrayList<>();
+		for (Row row : rows) {
+			expected.add(Arrays.asList(row.getA(), row.getB().isEmpty() ? null : row.getB(), row.getC()));
+		}
+		assertForAllChunkSizes(expected, 1, 60);
+	}
+
+	private void assertForAllChunkSizes(List<List<String>> expected, int from, int to) {
+		for (int chunkSize = from; chunkSize <= to; chunkSize++) {
+			assertEquals("chunk size " + chunkSize, expected, read(chunkSize));
+		}
+		assertEquals(expected, read(CsvReader.DEFAULT_CHUNK_SIZE));
+	}
+
+	private void write(byte[] bytes) throws IOException {
+		Files.write(file, bytes);
+	}
+
+	private List<List<String>> read(int chunkSize) {
+		List<Map<String, Object>> records = new ArrayList<>();
+		CsvReader.forMap(new SpreadSheetTemplate(TEMPLATE)).setChunkSize(chunkSize).setExecutor(executor)
+				.setBatchSize(7).read(new FileHolder(file.toString()), batch -> {
+					assertTrue(batch.size() <= 7);
+					records.addAll(batch);
+				});
+
+		List<List<String>> values = new ArrayList<>();
+		for (Map<String, Object> record : records) {
+			values.add(Arrays.asList((String) record.get("a"), (String) record.get("b"), (String) record.get("c")));
+		}
+		return values;
+	}
+
+	public static class Row implements ReaderWriterBean {
+		private final String a;
+		private final String b;
+		private final String c;
+
+		Row(String a, String b, String c) {
+			this.a = a;
+			this.b = b;
+			this.c = c;
+		}
+
+		public String getA() {
+			return a;
+		}
+
+		public String getB() {
+			return b;
+		}
+
+		public String getC() {
+			return c;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.openxcell.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.openxcell.util.PropertyPredicate.Operator;
+
+/**
+ * Conditions of {@link PropertyPath} filter, value of property is compared with
+ * form of literal matching its type.
+ *
+ * @author vicky.thakor
+ * @since 2026-10-18
+ */
+public class PropertyPredicateTest {
+	private enum Status {
+		ACTIVE, INACTIVE
+	}
+
+	@Test
+	public void operatorAndProperty() {
+		assertEquals(Operator.EQUAL, predicate("status=1").getOperator());
+		assertEquals(Operator.NOT_EQUAL, predicate("status!=1").getOperator());
+		assertEquals(Operator.LESS, predicate("status<1").getOperator());
+		assertEquals(Operator.LESS_OR_EQUAL, predicate("status<=1").getOperator());
+		assertEquals(Operator.GREATER, predicate("status>1").getOperator());
+		assertEquals(Operator.GREATER_OR_EQUAL, predicate("status >= 1").getOperator());
+		assertEquals(Operator.IN, predicate("status in(1, 2)").getOperator());
+		assertEquals("status", predicate("status in (1, 2)").getProperty());
+	}
+
+	@Test
+	public void integerProperty() {
+		assertTrue(predicate("quantity=2").test(2));
+		assertTrue(predicate("quantity=2").test(2L));
+		assertTrue(predicate("quantity!=2").test((short) 3));
+		assertTrue(predicate("quantity<3").test(2));
+		assertFalse(predicate("quantity<3").test(3));
+		assertTrue(predicate("quantity<=3").test(3));
+		assertTrue(predicate("quantity>2.5").test(3));
+		assertFalse(predicate("quantity>=2.5").test(2));
+		assertTrue(predicate("quantity=9007199254740993").test(9007199254740993L));
+		assertFalse(predicate("quantity=9007199254740993").test(9007199254740992L));
+	}
+
+	@Test
+	public void decimalProperty() {
+		assertTrue(predicate("price>=10.5").test(10.5));
+		assertFalse(predicate("price>10.5").test(10.5f));
+		assertTrue(predicate("price=10.5").test(new BigDecimal("10.50")));
+		assertTrue(predicate("price<11").test(new BigDecimal("10.99")));
+		assertTrue(predicate("price>99999999999999999999").test(new BigInteger("100000000000000000000")));
+	}
+
+	@Test
+	public void dateProperty() throws ParseException {
+		Date date = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2018-01-01 10:30:00");
+		assertTrue(predicate("created<\"2018-01-02\"").test(date));
+		assertTrue(predicate("created>'2018-01-01'").test(date));
+		assertTrue(predicate("created=\"2018-01-01 10:30:00\"").test(date));
+		assertTrue(predicate("created=\"2018-01-01T10:30:00\"").test(date));
+		assertTrue(predicate("created=" + date.getTime()).test(date));
+		assertFalse(predicate("created<\"2018-02-30\"").test(date));
+	}
+
+	@Test
+	public void booleanEnumAndTextProperty() {
+		assertTrue(predicate("active=true").test(Boolean.TRUE));
+		assertFalse(predicate("active=false").test(Boolean.TRUE));
+		assertTrue(predicate("status=\"ACTIVE\"").test(Status.ACTIVE));
+		assertTrue(predicate("status in(\"INACTIVE\", 'ACTIVE')").test(Status.ACTIVE));
+		assertTrue(predicate("name=\"a;b(c)\"").test("a;b(c)"));
+		assertTrue(predicate("name>\"Apple\"").test("Banana"));
+		assertTrue(predicate("name!='Active'").test("Inactive"));
+	}
+
+	@Test
+	public void inList() {
+		PropertyPredicate predicate = predicate("type in(1, 2, 3.5)");
+		assertTrue(predicate.test(2));
+		assertTrue(predicate.test(3.5));
+		assertFalse(predicate.test(4));
+		assertFalse(predicate.test(null));
+	}
+
+	@Test
+	public void nullValueMatchesOnlyNotEqual() {
+		assertTrue(predicate("status!=1").test(null));
+		assertFalse(predicate("status=1").test(null));
+		assertFalse(predicate("status<1").test(null));
+	}
+
+	@Test
+	public void incomparableValueMatchesOnlyNotEqual() {
+		assertFalse(predicate("active>\"Active\"").test(Boolean.TRUE));
+		assertFalse(predicate("active=\"Active\"").test(Boolean.TRUE));
+		assertTrue(predicate("active!=\"Active\"").test(Boolean.TRUE));
+		assertFalse(predicate("quantity<abc").test(1));
+		assertFalse(predicate("quantity>=abc").test(1));
+		assertFalse(predicate("created<\"yesterday\"").test(new Date()));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void conditionWithoutOperator() {
+		predicate("status");
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void conditionWithoutProperty() {
+		predicate("=1");
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void inListWithoutClosingBracket() {
+		predicate("status in(1, 2) 3");
+	}
+
+	private static PropertyPredicate predicate(String condition) {
+		PropertyPath path = PropertyPath.parse("Item.value(" + condition + ")");
+		return path.getSegment(0).getFilter().getConditions().get(0);
+	}
+}